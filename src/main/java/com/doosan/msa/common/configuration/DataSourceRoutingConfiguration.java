@@ -0,0 +1,55 @@
+package com.doosan.msa.common.configuration;
+
+import com.doosan.msa.common.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정
+ * - spring.datasource.replica.jdbc-url이 있을 때만 활성화되며, 없으면 기본 DataSource 자동 설정을 그대로 사용
+ * - 원본 풀은 spring.datasource(.hikari), 복제본 풀은 spring.datasource.replica(Hikari 속성)로 설정
+ * - readOnly 트랜잭션(시험 세션 목록/상세, 주문 내역 조회)은 복제본 풀을 사용하여 주문 쓰기와 커넥션을 나눠 쓰지 않음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.jdbc-url")
+public class DataSourceRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica);
+        routing.afterPropertiesSet();
+        log.info("읽기/쓰기 DataSource 라우팅 활성화");
+        // 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점)에 실제 커넥션을 얻도록 지연
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
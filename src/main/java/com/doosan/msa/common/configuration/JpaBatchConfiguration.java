@@ -0,0 +1,52 @@
+package com.doosan.msa.common.configuration;
+
+import com.doosan.msa.common.util.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * JPA insert/update 배치 설정
+ * - 주문/배송/위시리스트 엔티티는 SnowflakeIdGenerator로 ID를 발급하므로 JDBC 배치가 동작함
+ * - spring.jpa.properties에 같은 값이 있으면 그 값을 우선 사용
+ * - 노드 ID(msa.node-id)는 인스턴스마다 달라야 하므로, 프로파일이 없거나 local/dev/test 프로파일일 때만 기본값 0을 허용
+ */
+@Slf4j
+@Configuration
+public class JpaBatchConfiguration {
+
+    private static final Profiles DEV_PROFILES = Profiles.of("local", "dev", "test");
+
+    public JpaBatchConfiguration(@Value("${msa.node-id:#{null}}") Long configuredNodeId, Environment environment) {
+        long nodeId = resolveNodeId(configuredNodeId, environment);
+        // EntityManagerFactory 생성 전에 노드 ID를 확정
+        SnowflakeIdGenerator.initialize(nodeId);
+        log.info("SnowflakeIdGenerator 노드 ID 설정: {}", nodeId);
+    }
+
+    // 운영 프로파일에서 노드 ID가 없으면 모든 인스턴스가 0으로 ID를 발급하여 충돌하므로 기동을 중단
+    private static long resolveNodeId(Long configuredNodeId, Environment environment) {
+        if (configuredNodeId != null) {
+            return configuredNodeId;
+        }
+        if (environment.getActiveProfiles().length == 0 || environment.acceptsProfiles(DEV_PROFILES)) {
+            return 0;
+        }
+        throw new IllegalStateException("msa.node-id가 설정되지 않았습니다. 인스턴스마다 서로 다른 노드 ID(0 ~ 1023)를 지정해야 합니다.");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer batchPropertiesCustomizer(@Value("${msa.jpa.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", "true");
+            log.info("Hibernate JDBC 배치 설정: batch_size={}", properties.get("hibernate.jdbc.batch_size"));
+        };
+    }
+}
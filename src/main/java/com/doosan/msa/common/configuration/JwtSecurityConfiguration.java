@@ -1,7 +1,14 @@
 package com.doosan.msa.common.configuration;
 
+import com.doosan.msa.common.filter.AdmissionTokenFilter;
+import com.doosan.msa.common.filter.ClientIpResolver;
+import com.doosan.msa.common.filter.RateLimitFilter;
+import com.doosan.msa.common.filter.SoldOutFilter;
 import com.doosan.msa.common.jwt.JwtFilter;
 import com.doosan.msa.common.jwt.TokenProvider;
+import com.doosan.msa.common.util.RateLimiter;
+import com.doosan.msa.order.service.SoldOutSignal;
+import com.doosan.msa.order.service.WaitingRoomService;
 import com.doosan.msa.user.service.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +23,10 @@ public class JwtSecurityConfiguration extends SecurityConfigurerAdapter<DefaultS
     private final String SECRET_KEY; // JWT 서명에 사용되는 비밀 키
     private final TokenProvider tokenProvider; // 토큰 생성 및 검증을 담당하는 Provider
     private final UserDetailsServiceImpl userDetailsService; // 사용자 세부 정보를 로드하는 서비스
+    private final WaitingRoomService waitingRoomService; // 주문 대기열 입장 토큰 검증
+    private final RateLimiter rateLimiter; // 주문/인증 API 요청 속도 제한
+    private final SoldOutSignal soldOutSignal; // 매진 세션 플래그
+    private final ClientIpResolver clientIpResolver; // 프록시 뒤 클라이언트 IP 확인
 
     @Override
     public void configure(HttpSecurity httpSecurity) throws Exception {
@@ -31,5 +42,17 @@ public class JwtSecurityConfiguration extends SecurityConfigurerAdapter<DefaultS
         httpSecurity.addFilterBefore(customJwtFilter, UsernamePasswordAuthenticationFilter.class);
 
         log.info("JwtFilter를 보안 필터 체인에 성공적으로 추가");
+
+        // 매진 필터를 JwtFilter 앞에 추가 (토큰 파싱, 사용자 조회 전에 매진 세션 주문 거절)
+        httpSecurity.addFilterBefore(new SoldOutFilter(soldOutSignal), JwtFilter.class);
+        log.info("SoldOutFilter를 JwtFilter 앞에 추가");
+
+        // 입장 토큰 검증 필터를 매진 필터 앞에 추가 (대기열 미입장 주문은 본문을 읽기 전에 거절)
+        httpSecurity.addFilterBefore(new AdmissionTokenFilter(waitingRoomService), SoldOutFilter.class);
+        log.info("AdmissionTokenFilter를 SoldOutFilter 앞에 추가");
+
+        // 속도 제한 필터를 가장 앞에 추가 (토큰 검증, 대기열 확인 전에 초과 요청 거절)
+        httpSecurity.addFilterBefore(new RateLimitFilter(rateLimiter, tokenProvider, clientIpResolver), AdmissionTokenFilter.class);
+        log.info("RateLimitFilter를 AdmissionTokenFilter 앞에 추가");
     }
 }
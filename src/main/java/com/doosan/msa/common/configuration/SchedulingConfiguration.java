@@ -0,0 +1,29 @@
+package com.doosan.msa.common.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업 실행 스레드 풀 설정
+ * - 기본 스케줄러는 스레드 1개를 모든 @Scheduled 작업이 함께 쓰므로, 오래 걸리는 작업(배송 상태 분할 처리, 전체 재고 대사 등)이
+ *   실행되는 동안 점유 만료 tick, 아웃박스 발행, 위시리스트 반영 같은 짧은 주기 작업이 밀림
+ * - 같은 작업은 여전히 겹쳐 실행되지 않고(fixedDelay/cron), 서로 다른 작업만 병렬로 실행됨
+ */
+@Slf4j
+@Configuration
+public class SchedulingConfiguration {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 진행 중인 작업(청크 커밋 등)을 마무리
+        scheduler.setAwaitTerminationSeconds(30);
+        log.info("스케줄러 스레드 풀 설정: {}개", poolSize);
+        return scheduler;
+    }
+}
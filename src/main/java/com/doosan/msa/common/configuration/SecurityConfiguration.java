@@ -1,8 +1,12 @@
 package com.doosan.msa.common.configuration;
 
+import com.doosan.msa.common.filter.ClientIpResolver;
 import com.doosan.msa.common.jwt.AccessDeniedHandlerException;
 import com.doosan.msa.common.jwt.AuthenticationEntryPointException;
 import com.doosan.msa.common.jwt.TokenProvider;
+import com.doosan.msa.common.util.RateLimiter;
+import com.doosan.msa.order.service.SoldOutSignal;
+import com.doosan.msa.order.service.WaitingRoomService;
 import com.doosan.msa.user.service.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +42,10 @@ public class SecurityConfiguration {
     private final AuthenticationEntryPointException authenticationEntryPointException; // 인증 실패 처리 핸들러
     private final AccessDeniedHandlerException accessDeniedHandlerException; // 권한 거부 처리 핸들러
     private final CorsFilter corsFilter; // CORS 설정 필터
+    private final WaitingRoomService waitingRoomService; // 주문 대기열 서비스
+    private final RateLimiter rateLimiter; // 요청 속도 제한
+    private final SoldOutSignal soldOutSignal; // 매진 세션 플래그
+    private final ClientIpResolver clientIpResolver; // 프록시 뒤 클라이언트 IP 확인
 
     /**
      * PasswordEncoder Bean 등록
@@ -88,6 +96,15 @@ public class SecurityConfiguration {
         // URL별 접근 권한 설정
         log.info("URL별 접근 권한 설정 시작");
         http.authorizeRequests()
+                // 관리자 전용 (아래 permitAll보다 먼저 매칭, mvcMatchers로 끝 슬래시 등 MVC와 같은 경로 매칭)
+                .mvcMatchers(HttpMethod.POST, "/v1/api/orders/transitions").hasAuthority("ROLE_ADMIN")
+                .mvcMatchers(HttpMethod.GET, "/v1/api/orders/sessions/{examSessionId}/export").hasAuthority("ROLE_ADMIN")
+                .mvcMatchers(HttpMethod.GET, "/v1/api/orders/stock/reconciliation").hasAuthority("ROLE_ADMIN")
+                .mvcMatchers(HttpMethod.GET, "/v1/api/orders/shipping/stats").hasAuthority("ROLE_ADMIN")
+                // 일괄 주문은 기관 구매 담당과 관리자만 (한 번의 입장 토큰/속도 제한으로 여러 좌석을 선점하므로)
+                .mvcMatchers(HttpMethod.POST, "/v1/api/orders/batch").hasAnyAuthority("ROLE_INSTITUTION", "ROLE_ADMIN")
+                // 결제 확정은 로그인 사용자만 (주문자 본인 여부는 OrderService에서 확인)
+                .mvcMatchers(HttpMethod.POST, "/v1/api/orders/{orderId}/payment").authenticated()
                 .antMatchers("/v1/users/**").permitAll()
                 .antMatchers("/v1/api/**").permitAll()
                 .antMatchers("/v1/api/orders/**").permitAll()
@@ -120,7 +137,7 @@ public class SecurityConfiguration {
 
         // JwtSecurityConfiguration 적용
         log.info("JwtSecurityConfiguration 설정 적용 시작");
-        http.apply(new JwtSecurityConfiguration(SECRET_KEY, tokenProvider, userDetailsService));
+        http.apply(new JwtSecurityConfiguration(SECRET_KEY, tokenProvider, userDetailsService, waitingRoomService, rateLimiter, soldOutSignal, clientIpResolver));
         log.debug("JwtSecurityConfiguration 설정 적용 완료");
 
         // 설정 완료 후 SecurityFilterChain 반환
@@ -1,23 +1,40 @@
 package com.doosan.msa.common.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.validation.Validator;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Spring Web MVC 설정 클래스
- * - 메시지 소스 설정 및 Validator 설정을 포함
+ * - 메시지 소스 설정, Validator 설정, 비동기 응답(StreamingResponseBody 등) 제한 시간 설정을 포함
  */
 @Slf4j
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${order.export.timeout-ms:300000}")
+    private long asyncRequestTimeoutMillis; // 비동기 응답 제한 시간 (주문 내보내기 스트리밍이 끝나지 않을 때 요청 스레드/커넥션 회수)
+
+    /**
+     * 비동기 요청 제한 시간 설정
+     * - StreamingResponseBody는 별도 스레드에서 실행되므로, 제한 시간이 없으면 느린 클라이언트가 스트리밍 스레드와 DB 커넥션을 계속 점유
+     *
+     * @param configurer 비동기 설정
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMillis);
+        log.info("비동기 요청 제한 시간 설정: {}ms", asyncRequestTimeoutMillis);
+    }
+
     /**
      * 메시지 소스 설정
      * - 메시지 파일 경로와 인코딩 설정
@@ -0,0 +1,56 @@
+package com.doosan.msa.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - readOnly 트랜잭션은 복제본(replica), 그 외 트랜잭션과 트랜잭션 밖 접근은 원본(primary)으로 연결
+ * - 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부가 반영되므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 방금 쓴 데이터를 바로 읽어야 하는 경우 usePrimary로 readOnly 트랜잭션도 원본으로 보낼 수 있음 (커넥션을 얻기 전에 호출해야 함)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * 현재 스레드의 작업을 원본으로 보냄 (readOnly 트랜잭션 포함)
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() == null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,70 @@
+package com.doosan.msa.common.datasource;
+
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 자기 쓰기 직후 읽기 보장 (read-your-writes)
+ * - 사용자가 주문을 변경하면 짧은 시간 동안 그 사용자의 조회를 복제본 대신 원본으로 보냄 (복제 지연으로 방금 쓴 데이터가 안 보이는 문제 방지)
+ * - 다음 요청이 다른 인스턴스로 가도 적용되도록 Redis 키(TTL)로 기록
+ * - 복제본이 설정되지 않은 경우 아무 일도 하지 않음
+ */
+@Slf4j
+@Component
+public class ReadYourWritesWindow {
+
+    private static final String KEY_PREFIX = "ryw:user:";
+
+    private final RedisUtil redisUtil;
+    private final boolean enabled;
+    private final long windowSeconds;
+
+    public ReadYourWritesWindow(RedisUtil redisUtil,
+                                @Value("${spring.datasource.replica.jdbc-url:}") String replicaUrl,
+                                @Value("${datasource.read-your-writes-seconds:5}") long windowSeconds) {
+        this.redisUtil = redisUtil;
+        this.enabled = !replicaUrl.isBlank();
+        this.windowSeconds = windowSeconds;
+    }
+
+    /**
+     * 사용자의 쓰기 기록 (이후 windowSeconds 동안 조회는 원본으로)
+     * @param userId 사용자 ID
+     */
+    public void markWrite(String userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        try {
+            redisUtil.setDataExpire(KEY_PREFIX + userId, "1", windowSeconds);
+        } catch (RuntimeException e) {
+            log.warn("쓰기 기록 실패, 복제 지연 동안 이전 데이터가 조회될 수 있음: userId={}, 원인={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 최근에 쓴 사용자면 원본에서, 아니면 현재 라우팅(복제본) 그대로 조회
+     * @param userId 사용자 ID
+     * @param query 조회 작업 (커넥션을 얻기 전에 호출해야 함)
+     * @return 조회 결과
+     */
+    public <T> T read(String userId, Supplier<T> query) {
+        if (enabled && userId != null && isRecentWriter(userId)) {
+            return ReadWriteRoutingDataSource.usePrimary(query);
+        }
+        return query.get();
+    }
+
+    private boolean isRecentWriter(String userId) {
+        try {
+            return redisUtil.hasKey(KEY_PREFIX + userId);
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 원본에서 읽음
+            return true;
+        }
+    }
+}
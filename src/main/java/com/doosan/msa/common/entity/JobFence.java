@@ -0,0 +1,30 @@
+package com.doosan.msa.common.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 작업별 펜싱 토큰
+ * - 리스 잠금을 가진 작업이 DB를 변경할 때 같은 트랜잭션에서 자기 토큰으로 갱신
+ * - 더 큰 토큰이 이미 기록되어 있으면(잠금이 만료되어 다른 인스턴스가 가져간 경우) 갱신되지 않아 변경을 롤백
+ */
+@Entity
+@Table(name = "job_fence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFence {
+
+    @Id
+    @Column(length = 100)
+    private String name; // 잠금 이름
+
+    @Column(nullable = false)
+    private long token; // 마지막으로 DB를 변경한 잠금 보유자의 토큰
+}
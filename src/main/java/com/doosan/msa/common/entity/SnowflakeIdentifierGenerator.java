@@ -0,0 +1,21 @@
+package com.doosan.msa.common.entity;
+
+import com.doosan.msa.common.util.SnowflakeIdGenerator;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+
+/**
+ * Hibernate ID 생성 전략 - SnowflakeIdGenerator로 ID를 발급
+ * - 사용: @GeneratedValue(generator = "snowflake")
+ *        @GenericGenerator(name = "snowflake", strategy = "com.doosan.msa.common.entity.SnowflakeIdentifierGenerator")
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+        return SnowflakeIdGenerator.getInstance().nextId();
+    }
+}
@@ -29,6 +29,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * 비즈니스 로직 예외 처리
+     * - 예외에 지정된 HTTP 상태 코드와 에러 코드를 그대로 응답
+     */
+    @ExceptionHandler(BusinessLogicException.class)
+    public ResponseEntity<ResponseDTO<Void>> handleBusinessLogicException(BusinessLogicException ex) {
+        log.warn("BusinessLogicException 발생: {} - {}", ex.getCode(), ex.getMessage());
+
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(ResponseDTO.fail(ex.getStatusCode(), ex.getCode(), ex.getMessage()));
+    }
+
     /**
      * Token 관련 예외 처리
      */
@@ -0,0 +1,55 @@
+package com.doosan.msa.common.filter;
+
+import com.doosan.msa.order.service.WaitingRoomService;
+import com.doosan.msa.user.dto.responseDTO.ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 주문 API 입장 토큰 검증 필터
+ * - 대기열이 활성화된 경우 입장 토큰 없이 들어온 주문 요청(동기/비동기)을 JwtFilter 이전에 거절
+ * - 여기서는 서명과 만료 시각만 확인하고, 토큰 사용자 확인과 1회 사용 처리는 인증 이후 주문 서비스에서 진행
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdmissionTokenFilter extends OncePerRequestFilter {
+    public static String ADMISSION_HEADER = "X-Admission-Token";
+    private static final Set<String> ORDER_PATHS = Set.of("/v1/api/orders", "/v1/api/orders/async", "/v1/api/orders/holds", "/v1/api/orders/batch");
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !waitingRoomService.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !ORDER_PATHS.contains(RequestPaths.normalize(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+
+        if (!waitingRoomService.verifyAdmissionToken(request.getHeader(ADMISSION_HEADER))) {
+            log.debug("입장 토큰 없는 주문 요청 거절: {}", request.getRemoteAddr());
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().println(
+                    new ObjectMapper().writeValueAsString(
+                            ResponseDTO.fail(HttpServletResponse.SC_FORBIDDEN, "ADMISSION_REQUIRED", "대기열 입장 후 주문할 수 있습니다.")
+                    )
+            );
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,68 @@
+package com.doosan.msa.common.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청한 클라이언트 IP 확인
+ * - 로드밸런서 뒤에서는 getRemoteAddr()가 모두 로드밸런서 주소이므로 X-Forwarded-For의 클라이언트 주소를 사용
+ * - X-Forwarded-For는 클라이언트가 임의로 보낼 수 있으므로, 직접 연결한 주소가 신뢰하는 프록시일 때만 읽음
+ * - 오른쪽(가장 가까운 프록시)부터 신뢰하는 프록시를 건너뛰고 처음 나오는 주소를 클라이언트로 봄
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(@Value("${rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim())); // IP 또는 CIDR (10.0.0.0/8)
+            }
+        }
+    }
+
+    /**
+     * @param request 요청
+     * @return 클라이언트 IP (신뢰하는 프록시를 거치지 않았으면 직접 연결한 주소)
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            if (!isTrusted(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr; // 모든 주소가 신뢰하는 프록시인 내부 요청
+    }
+
+    private boolean isTrusted(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false; // IP 형식이 아닌 값 (위조된 헤더 등)
+            }
+        }
+        return false;
+    }
+}
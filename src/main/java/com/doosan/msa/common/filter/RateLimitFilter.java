@@ -0,0 +1,93 @@
+package com.doosan.msa.common.filter;
+
+import com.doosan.msa.common.jwt.TokenProvider;
+import com.doosan.msa.common.util.RateLimiter;
+import com.doosan.msa.user.dto.responseDTO.ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 주문/인증 API 요청 속도 제한 필터
+ * - JwtFilter, AdmissionTokenFilter 이전에 실행되어 사용자 조회, 이메일 암호화, DB 조회 전에 초과 요청을 거절
+ * - 주문은 서명을 검증한 토큰의 사용자(subject)를 키로 사용하고, 토큰이 없거나 유효하지 않으면 IP 기준
+ *   (검증하지 않은 값을 키로 쓰면 서명만 바꿔 매번 새 버킷을 받을 수 있음)
+ * - 이메일은 요청 본문에만 있어 본문을 읽지 않도록 인증 API도 IP 기준으로 제한
+ * - IP는 신뢰하는 프록시가 전달한 X-Forwarded-For의 클라이언트 주소 (ClientIpResolver)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Set<String> ORDER_PATHS = Set.of("/v1/api/orders", "/v1/api/orders/async", "/v1/api/orders/holds", "/v1/api/orders/batch");
+    private static final String LOGIN_PATH = "/v1/users/login";
+    private static final String EMAIL_PATH_PREFIX = "/v1/auth/";
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    private final RateLimiter rateLimiter;
+    private final TokenProvider tokenProvider;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || policyOf(RequestPaths.normalize(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+
+        RateLimiter.Policy policy = policyOf(RequestPaths.normalize(request));
+        String key = keyOf(policy, request);
+        long retryAfter = rateLimiter.tryAcquire(policy, key);
+        if (retryAfter > 0) {
+            log.debug("속도 제한 초과 요청 거절: {} {}", policy, key);
+            response.setStatus(SC_TOO_MANY_REQUESTS);
+            response.setHeader("Retry-After", String.valueOf(retryAfter));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().println(
+                    new ObjectMapper().writeValueAsString(
+                            ResponseDTO.fail(SC_TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+                    )
+            );
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static RateLimiter.Policy policyOf(String uri) {
+        if (ORDER_PATHS.contains(uri)) {
+            return RateLimiter.Policy.ORDER;
+        }
+        if (LOGIN_PATH.equals(uri)) {
+            return RateLimiter.Policy.LOGIN;
+        }
+        if (uri.startsWith(EMAIL_PATH_PREFIX)) {
+            return RateLimiter.Policy.EMAIL;
+        }
+        return null;
+    }
+
+    // 서명이 유효한 토큰이면 사용자 기준, 아니면 클라이언트 IP 기준 (JwtFilter와 달리 사용자 DB 조회는 하지 않음)
+    private String keyOf(RateLimiter.Policy policy, HttpServletRequest request) {
+        if (policy == RateLimiter.Policy.ORDER) {
+            String authorization = request.getHeader("Authorization");
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                try {
+                    return "user:" + tokenProvider.getUserIdFromToken(authorization.substring(7));
+                } catch (RuntimeException e) {
+                    log.debug("유효하지 않은 토큰, IP 기준으로 제한: {}", e.getMessage());
+                }
+            }
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+}
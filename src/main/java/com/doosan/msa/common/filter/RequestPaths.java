@@ -0,0 +1,27 @@
+package com.doosan.msa.common.filter;
+
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 필터 경로 비교용 요청 경로 정규화
+ * - 컨텍스트 경로, 경로 파라미터(;jsessionid 등), 중복 슬래시, 끝의 슬래시를 제거하여
+ *   MVC 핸들러가 매핑하는 경로와 같은 기준으로 비교
+ */
+final class RequestPaths {
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private RequestPaths() {
+    }
+
+    static String normalize(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+}
@@ -0,0 +1,140 @@
+package com.doosan.msa.common.filter;
+
+import com.doosan.msa.order.service.SoldOutSignal;
+import com.doosan.msa.user.dto.responseDTO.ResponseDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 매진 세션 주문 거절 필터
+ * - 매진 플래그가 있는 세션의 단건 주문 요청을 JwtFilter(토큰 파싱, 사용자 DB 조회) 이전에 거절
+ * - 매진 플래그가 하나도 없으면 본문을 읽지 않고 통과, 있으면 본문을 메모리에 보관한 뒤 examSessionId만 읽음
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SoldOutFilter extends OncePerRequestFilter {
+    private static final Set<String> ORDER_PATHS = Set.of("/v1/api/orders", "/v1/api/orders/async", "/v1/api/orders/holds");
+    private static final int MAX_BODY_BYTES = 16 * 1024; // 주문 요청 본문은 작으므로 이보다 크면 확인하지 않음
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final SoldOutSignal soldOutSignal;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        long contentLength = request.getContentLengthLong();
+        return !soldOutSignal.hasSoldOutSessions()
+                || !"POST".equals(request.getMethod())
+                || contentLength < 0 || contentLength > MAX_BODY_BYTES
+                || !ORDER_PATHS.contains(RequestPaths.normalize(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+
+        CachedBodyRequest cached = new CachedBodyRequest(request);
+        Long examSessionId = readExamSessionId(cached.body);
+        if (examSessionId != null && soldOutSignal.isSoldOut(examSessionId)) {
+            log.debug("매진 세션 주문 거절: 시험 세션 ID={}", examSessionId);
+            response.setStatus(HttpServletResponse.SC_CONFLICT);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().println(
+                    new ObjectMapper().writeValueAsString(
+                            ResponseDTO.fail(HttpServletResponse.SC_CONFLICT, "SOLD_OUT", "매진된 시험 세션입니다.")
+                    )
+            );
+            return;
+        }
+
+        filterChain.doFilter(cached, response);
+    }
+
+    // 최상위 examSessionId 필드만 읽음, 형식이 맞지 않으면 null (본문 검증은 컨트롤러에서 처리)
+    private static Long readExamSessionId(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("examSessionId".equals(field)) {
+                    return value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 필터에서 읽은 본문을 이후 컨트롤러가 다시 읽을 수 있도록 보관하는 요청
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding == null ? StandardCharsets.UTF_8 : java.nio.charset.Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.doosan.msa.common.repository;
+
+import com.doosan.msa.common.entity.JobFence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JobFenceRepository 인터페이스
+ */
+@Repository
+public interface JobFenceRepository extends JpaRepository<JobFence, String> {
+
+    // 기록된 토큰이 주어진 토큰 이하일 때만 갱신 (0이면 더 새로운 잠금 보유자가 있음), 행 잠금으로 보유자 간 변경을 직렬화
+    @Modifying
+    @Query("UPDATE JobFence f SET f.token = :token WHERE f.name = :name AND f.token <= :token")
+    int advance(@Param("name") String name, @Param("token") long token);
+}
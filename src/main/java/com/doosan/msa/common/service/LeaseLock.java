@@ -0,0 +1,163 @@
+package com.doosan.msa.common.service;
+
+import com.doosan.msa.common.entity.JobFence;
+import com.doosan.msa.common.repository.JobFenceRepository;
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 펜싱 토큰을 발급하는 Redis 리스 잠금 (여러 인스턴스 중 하나만 작업을 실행)
+ * - 잠금 획득 시 이름별로 단조 증가하는 토큰을 발급하고, 잠금 키의 값으로 그 토큰을 저장 (만료 시간이 있는 리스)
+ * - 긴 작업은 중간중간 renew로 리스를 연장하고, 실패하면 잠금을 잃은 것이므로 작업을 멈춰야 함
+ * - GC 정지 등으로 리스가 만료된 뒤에도 이전 보유자가 DB를 변경하지 못하도록, DB 변경 트랜잭션에서 checkFence로 토큰을 확인
+ * - Redis 데이터가 초기화되어 토큰 카운터가 처음부터 다시 시작해도 DB에 기록된 토큰보다 큰 토큰을 발급하도록, 획득 시 DB 토큰을 하한으로 전달
+ */
+@Slf4j
+@Service
+public class LeaseLock {
+
+    private static final String KEY_PREFIX = "lease:";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    // 잠금이 비어 있으면 토큰을 발급하여 잠금 값으로 저장, 이미 보유자가 있으면 -1 (카운터가 DB 토큰(ARGV[2])보다 작으면 먼저 올림)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end " +
+            "local floor = tonumber(ARGV[2]) " +
+            "if tonumber(redis.call('GET', KEYS[2]) or '0') < floor then redis.call('SET', KEYS[2], floor) end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], token, 'EX', ARGV[1]) " +
+            "return token",
+            Long.class);
+
+    // 잠금 값이 자기 토큰일 때만 만료 시간 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 잠금 값이 자기 토큰일 때만 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final JobFenceRepository jobFenceRepository;
+
+    public LeaseLock(RedisUtil redisUtil, JobFenceRepository jobFenceRepository) {
+        this.redisUtil = redisUtil;
+        this.jobFenceRepository = jobFenceRepository;
+    }
+
+    /**
+     * 잠금 획득 시도
+     * @param name 잠금 이름
+     * @param leaseSeconds 리스 시간 (초)
+     * @return 획득한 리스, 다른 보유자가 있거나 Redis 장애 시 null
+     */
+    public Lease tryAcquire(String name, long leaseSeconds) {
+        long fence = currentFence(name);
+        Long token;
+        try {
+            token = redisUtil.executeScript(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + name, KEY_PREFIX + name + FENCE_SUFFIX),
+                    String.valueOf(leaseSeconds), String.valueOf(fence));
+        } catch (RuntimeException e) {
+            log.warn("잠금 획득 실패: {}, 원인={}", name, e.getMessage());
+            return null;
+        }
+        if (token == null || token < 0) {
+            return null;
+        }
+        return new Lease(name, token, leaseSeconds);
+    }
+
+    /**
+     * 리스 연장
+     * @param lease 보유 중인 리스
+     * @return 여전히 보유 중이면 true (false면 작업을 멈춰야 함)
+     */
+    public boolean renew(Lease lease) {
+        try {
+            Long renewed = redisUtil.executeScript(RENEW_SCRIPT, List.of(KEY_PREFIX + lease.getName()),
+                    String.valueOf(lease.getToken()), String.valueOf(lease.getLeaseSeconds()));
+            return renewed != null && renewed == 1L;
+        } catch (RuntimeException e) {
+            log.warn("리스 연장 실패: {}, 원인={}", lease.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 (이미 만료되어 다른 보유자가 있으면 아무 일도 하지 않음)
+     * @param lease 보유 중인 리스
+     */
+    public void release(Lease lease) {
+        try {
+            redisUtil.executeScript(RELEASE_SCRIPT, List.of(KEY_PREFIX + lease.getName()), String.valueOf(lease.getToken()));
+        } catch (RuntimeException e) {
+            log.warn("잠금 해제 실패, 리스 만료 후 해제됨: {}, 원인={}", lease.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 펜싱 토큰 확인 - DB를 변경하는 트랜잭션 안에서 호출
+     * - 더 새로운 보유자가 이미 DB를 변경했으면 예외를 던져 트랜잭션을 롤백
+     * @param lease 보유 중인 리스
+     */
+    public void checkFence(Lease lease) {
+        if (jobFenceRepository.advance(lease.getName(), lease.getToken()) == 0) {
+            throw new IllegalStateException("잠금을 잃어 작업을 중단합니다: " + lease.getName() + ", 토큰=" + lease.getToken());
+        }
+    }
+
+    // 이름별 펜싱 행의 토큰 반환, 행이 없으면 생성 (동시에 생성되면 먼저 생성된 행 사용)
+    private long currentFence(String name) {
+        Optional<JobFence> fence = jobFenceRepository.findById(name);
+        if (fence.isPresent()) {
+            return fence.get().getToken();
+        }
+        try {
+            jobFenceRepository.saveAndFlush(new JobFence(name, 0L));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("펜싱 행이 이미 생성됨: {}", name);
+        }
+        return 0L;
+    }
+
+    /**
+     * 획득한 리스
+     */
+    public static final class Lease {
+        private final String name;
+        private final long token;
+        private final long leaseSeconds;
+
+        private Lease(String name, long token, long leaseSeconds) {
+            this.name = name;
+            this.token = token;
+            this.leaseSeconds = leaseSeconds;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getToken() {
+            return token;
+        }
+
+        public long getLeaseSeconds() {
+            return leaseSeconds;
+        }
+    }
+}
@@ -10,7 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 public enum Authority {
 
     ROLE_USER, // 학생 사용자 권한
-    ROLE_INSTRUCTOR; // 강사
+    ROLE_INSTRUCTOR, // 강사
+    ROLE_INSTITUTION, // 기관 구매 담당 (일괄 주문)
+    ROLE_ADMIN; // 운영 관리자 (주문 상태 일괄 전이, 주문 내보내기)
 
     // Enum 클래스 초기화 시 로그 기록
     static {
@@ -0,0 +1,191 @@
+package com.doosan.msa.common.util;
+
+import java.util.function.LongFunction;
+
+/**
+ * long 원시 타입 키를 사용하는 읽기 위주 동시성 맵
+ * - 조회는 잠금과 박싱 없이 volatile 테이블 스냅샷에서 선형 탐사로 처리
+ * - 쓰기는 테이블을 복사하여 교체 (Copy-On-Write), 시험 세션처럼 키 수가 적고 쓰기가 드문 경우에 사용
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table<V> table = new Table<>(MIN_CAPACITY);
+
+    /**
+     * 키에 해당하는 값을 조회
+     * @param key 조회할 키
+     * @return 값, 없으면 null
+     */
+    public V get(long key) {
+        Table<V> t = table;
+        int i = index(key, t.mask);
+        while (true) {
+            V value = t.values[i];
+            if (value == null) {
+                return null;
+            }
+            if (t.keys[i] == key) {
+                return value;
+            }
+            i = (i + 1) & t.mask;
+        }
+    }
+
+    /**
+     * 키에 해당하는 값이 없으면 생성하여 저장
+     * @param key 키
+     * @param loader 값 생성 함수 (잠금 안에서 한 번만 호출됨)
+     * @return 기존 값 또는 새로 생성된 값
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        synchronized (this) {
+            value = get(key);
+            if (value == null) {
+                value = loader.apply(key);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 키에 해당하는 값이 없을 때만 저장 (값 생성은 호출자가 잠금 밖에서 미리 수행)
+     * @param key 키
+     * @param value 저장할 값 (null 불가)
+     * @return 기존 값, 없어서 저장했으면 null
+     */
+    public synchronized V putIfAbsent(long key, V value) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * 값을 저장
+     * @param key 키
+     * @param value 저장할 값 (null 불가)
+     */
+    public synchronized void put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value는 null일 수 없습니다.");
+        }
+        Table<V> current = table;
+        int size = current.size + (get(key) == null ? 1 : 0);
+        Table<V> next = new Table<>(capacityFor(size));
+        copyInto(current, next, key);
+        next.insert(key, value);
+        table = next;
+    }
+
+    /**
+     * 값을 제거
+     * @param key 제거할 키
+     * @return 제거된 값, 없으면 null
+     */
+    public synchronized V remove(long key) {
+        V removed = get(key);
+        if (removed == null) {
+            return null;
+        }
+        Table<V> current = table;
+        Table<V> next = new Table<>(capacityFor(current.size - 1));
+        copyInto(current, next, key);
+        table = next;
+        return removed;
+    }
+
+    /**
+     * 현재 값이 주어진 값(동일 객체)일 때만 제거 (조회 이후 다른 스레드가 바꾼 값은 유지)
+     * @param key 제거할 키
+     * @param expected 조회했던 값
+     * @return 제거했으면 true
+     */
+    public synchronized boolean remove(long key, V expected) {
+        if (expected == null || get(key) != expected) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    /**
+     * 현재 저장된 키 목록 (스냅샷)
+     */
+    public long[] keys() {
+        Table<V> t = table;
+        long[] keys = new long[t.size];
+        int n = 0;
+        for (int i = 0; i < t.values.length; i++) {
+            if (t.values[i] != null) {
+                keys[n++] = t.keys[i];
+            }
+        }
+        return keys;
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    public synchronized void clear() {
+        table = new Table<>(MIN_CAPACITY);
+    }
+
+    private static <V> void copyInto(Table<V> from, Table<V> to, long skipKey) {
+        for (int i = 0; i < from.values.length; i++) {
+            if (from.values[i] != null && from.keys[i] != skipKey) {
+                to.insert(from.keys[i], from.values[i]);
+            }
+        }
+    }
+
+    // 적재율을 50% 이하로 유지
+    private static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int index(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // 한 번 게시된 이후에는 변경되지 않는 해시 테이블
+    private static final class Table<V> {
+        private final long[] keys;
+        private final V[] values;
+        private final int mask;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = (V[]) new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private void insert(long key, V value) {
+            int i = index(key, mask);
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.doosan.msa.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * long 키 기반 해시 타이머 휠
+ * - 만료 시각을 tick 단위 버킷(원형 배열)에 나누어 담고, 한 tick마다 현재 버킷만 확인
+ * - 등록/취소/만료 처리가 모두 O(1) (휠 한 바퀴보다 먼 만료는 남은 바퀴 수로 구분)
+ * - 만료 정밀도는 tick 단위, 실제 만료는 마감 시각 이후 최대 1 tick 늦게 처리됨
+ * - advance는 한 스레드에서만 호출하는 것을 전제로 하며, 등록/취소는 여러 스레드에서 호출 가능
+ */
+public class HashedTimerWheel {
+
+    private final long tickMillis;
+    private final Node[] buckets;
+    private final int mask;
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis tick 간격 (밀리초)
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     * @param startMillis 기준 시각
+     */
+    public HashedTimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("잘못된 타이머 휠 설정입니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.buckets = new Node[size];
+        this.mask = size - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 만료 등록, 같은 키가 이미 있으면 새 만료 시각으로 교체
+     * @param key 키
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     */
+    public synchronized void schedule(long key, long deadlineMillis) {
+        cancel(key);
+        // 마감 시각 이후의 첫 tick에 만료, 이미 지난 시각은 다음 tick에 만료
+        long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        Node node = new Node(key, (tick - currentTick - 1) / buckets.length);
+        int index = (int) (tick & mask);
+        node.next = buckets[index];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        buckets[index] = node;
+        node.bucket = index;
+        nodes.put(key, node);
+    }
+
+    /**
+     * 만료 등록 취소
+     * @param key 키
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean cancel(long key) {
+        Node node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * 주어진 시각까지 tick을 진행하며 만료된 키를 전달
+     * @param nowMillis 현재 시각
+     * @param expired 만료된 키를 받을 함수 (잠금 안에서 호출되므로 가벼운 작업만 수행)
+     */
+    public synchronized void advance(long nowMillis, LongConsumer expired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            Node node = buckets[(int) (currentTick & mask)];
+            while (node != null) {
+                Node next = node.next;
+                if (node.rounds <= 0) {
+                    unlink(node);
+                    nodes.remove(node.key);
+                    expired.accept(node.key);
+                } else {
+                    node.rounds--;
+                }
+                node = next;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            buckets[node.bucket] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    // 버킷 안의 이중 연결 리스트 노드
+    private static final class Node {
+        private final long key;
+        private long rounds; // 만료까지 남은 휠 바퀴 수
+        private int bucket;
+        private Node prev;
+        private Node next;
+
+        private Node(long key, long rounds) {
+            this.key = key;
+            this.rounds = rounds;
+        }
+    }
+}
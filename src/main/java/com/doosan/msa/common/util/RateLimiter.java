@@ -0,0 +1,155 @@
+package com.doosan.msa.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 속도 제한
+ * - 1단계: 인스턴스 로컬 토큰 버킷 - 순간 폭주를 I/O 없이 거절
+ * - 2단계: Redis 슬라이딩 윈도 카운터 - 로컬 버킷을 통과한 요청만 클러스터 전체 한도로 확인 (Lua 1회 왕복)
+ * - Redis 장애 시에는 로컬 버킷만으로 동작 (요청을 막지 않음)
+ * - 로컬 버킷 수는 max-buckets로 제한, 가득 차면 쉬고 있는 버킷을 먼저 정리하고 그래도 가득 차 있으면 새 키는 클러스터 한도로만 확인
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final long WINDOW_MILLIS = 60_000L; // 클러스터 한도 윈도 (1분)
+    private static final long INLINE_EVICT_INTERVAL_NANOS = 1_000_000_000L; // 요청 경로에서 버킷을 정리하는 최소 간격
+
+    // 직전 윈도 카운트를 남은 비율만큼 반영한 추정치가 한도 미만이면 현재 윈도 카운트 증가, 허용 시 1 반환
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local previous = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "local window = tonumber(ARGV[2]) " +
+            "local estimated = previous * (window - tonumber(ARGV[3])) / window + current " +
+            "if estimated >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], window * 2) " +
+            "return 1",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final Map<Policy, Limits> limits;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final AtomicLong lastInlineEvictNanos = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(RedisUtil redisUtil,
+                       @Value("${rate-limit.order.burst:5}") long orderBurst,
+                       @Value("${rate-limit.order.per-second:2}") double orderPerSecond,
+                       @Value("${rate-limit.order.per-minute:60}") long orderPerMinute,
+                       @Value("${rate-limit.login.burst:5}") long loginBurst,
+                       @Value("${rate-limit.login.per-second:1}") double loginPerSecond,
+                       @Value("${rate-limit.login.per-minute:20}") long loginPerMinute,
+                       @Value("${rate-limit.email.burst:3}") long emailBurst,
+                       @Value("${rate-limit.email.per-second:0.2}") double emailPerSecond,
+                       @Value("${rate-limit.email.per-minute:10}") long emailPerMinute,
+                       @Value("${rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.redisUtil = redisUtil;
+        this.maxBuckets = maxBuckets;
+        this.limits = Map.of(
+                Policy.ORDER, new Limits(orderBurst, orderPerSecond, orderPerMinute),
+                Policy.LOGIN, new Limits(loginBurst, loginPerSecond, loginPerMinute),
+                Policy.EMAIL, new Limits(emailBurst, emailPerSecond, emailPerMinute));
+    }
+
+    /**
+     * 요청 허용 여부
+     * @param policy 적용할 정책
+     * @param key 제한 기준 키 (사용자, IP 등)
+     * @return 허용되면 0, 거절되면 재시도까지 기다려야 할 초
+     */
+    public long tryAcquire(Policy policy, String key) {
+        Limits limit = limits.get(policy);
+        String bucketKey = policy.name() + ':' + key;
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            if (!hasRoomForBucket(now)) {
+                return acquireWindow(bucketKey, limit);
+            }
+            bucket = buckets.computeIfAbsent(bucketKey, k -> new TokenBucket(limit.burst, limit.perSecond, now));
+        }
+        if (!bucket.tryAcquire(now)) {
+            return 1;
+        }
+        return acquireWindow(bucketKey, limit);
+    }
+
+    /**
+     * 가득 찬(한동안 사용되지 않은) 로컬 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        log.debug("속도 제한 버킷 정리: {} -> {}", before, buckets.size());
+    }
+
+    // 버킷 수가 상한이면 쉬고 있는 버킷 정리 (요청 경로에서는 최소 간격마다 한 번만), 그래도 가득 차 있으면 false
+    private boolean hasRoomForBucket(long now) {
+        if (buckets.size() < maxBuckets) {
+            return true;
+        }
+        long last = lastInlineEvictNanos.get();
+        if (now - last >= INLINE_EVICT_INTERVAL_NANOS && lastInlineEvictNanos.compareAndSet(last, now)) {
+            evictIdleBuckets();
+        }
+        if (buckets.size() < maxBuckets) {
+            return true;
+        }
+        log.debug("속도 제한 버킷 수 상한 도달({}), 새 키는 클러스터 한도로만 확인", maxBuckets);
+        return false;
+    }
+
+    private long acquireWindow(String bucketKey, Limits limit) {
+        long nowMillis = System.currentTimeMillis();
+        long window = nowMillis / WINDOW_MILLIS;
+        long elapsed = nowMillis % WINDOW_MILLIS;
+        String prefix = KEY_PREFIX + bucketKey + ':';
+        try {
+            Long allowed = redisUtil.executeScript(SLIDING_WINDOW_SCRIPT, List.of(prefix + window, prefix + (window - 1)),
+                    String.valueOf(limit.perMinute), String.valueOf(WINDOW_MILLIS), String.valueOf(elapsed));
+            if (allowed != null && allowed == 0) {
+                return Math.max(1, (WINDOW_MILLIS - elapsed + 999) / 1000);
+            }
+        } catch (RuntimeException e) {
+            log.warn("클러스터 속도 제한 확인 실패, 로컬 제한만 적용: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    /**
+     * 속도 제한 정책
+     */
+    public enum Policy {
+        ORDER,  // 주문 요청
+        LOGIN,  // 로그인
+        EMAIL   // 이메일 인증 발송/확인
+    }
+
+    // 정책별 한도
+    private static final class Limits {
+        private final long burst;
+        private final double perSecond;
+        private final long perMinute;
+
+        private Limits(long burst, double perSecond, long perMinute) {
+            this.burst = burst;
+            this.perSecond = perSecond;
+            this.perMinute = perMinute;
+        }
+    }
+}
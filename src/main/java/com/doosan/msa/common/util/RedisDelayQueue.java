@@ -0,0 +1,97 @@
+package com.doosan.msa.common.util;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Sorted Set 기반 지연 큐 (점수 = 실행 예정 시각, 밀리초)
+ * - 예정 시각이 지난 항목을 가져갈 때 점수를 (현재 시각 + 처리 제한 시간)으로 미뤄 다른 워커가 중복으로 가져가지 않도록 함
+ * - 처리를 마친 항목은 ack로 삭제하고, 워커가 중단되어 ack하지 못한 항목은 처리 제한 시간이 지나면 다시 가져갈 수 있음
+ * - 같은 멤버를 다시 예약하면 예정 시각만 갱신됨 (중복 항목 없음)
+ * - 처리할 수 없는 항목(형식 오류 등)은 deadLetter로 실패 리스트("delay:{큐}:dead-letter")에 옮겨 계속 다시 가져가지 않도록 함
+ */
+@Component
+public class RedisDelayQueue {
+
+    private static final String KEY_PREFIX = "delay:";
+    private static final String DEAD_LETTER_SUFFIX = ":dead-letter";
+
+    // 예정 시각이 지난 항목을 최대 ARGV[2]개 가져가면서 점수를 ARGV[3](다시 보이는 시각)으로 변경
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "for _, item in ipairs(items) do redis.call('ZADD', KEYS[1], ARGV[3], item) end " +
+            "return items",
+            List.class);
+
+    // 항목을 실패 리스트(KEYS[2])에 추가하고 큐(KEYS[1])에서 삭제
+    private static final RedisScript<Long> DEAD_LETTER_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('RPUSH', KEYS[2], unpack(ARGV)) " +
+            "return redis.call('ZREM', KEYS[1], unpack(ARGV))",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+
+    public RedisDelayQueue(RedisUtil redisUtil) {
+        this.redisUtil = redisUtil;
+    }
+
+    /**
+     * 항목 예약
+     * @param queue 큐 이름
+     * @param dueAtMillisByMember 항목별 실행 예정 시각 (epoch 밀리초)
+     */
+    public void schedule(String queue, Map<String, Long> dueAtMillisByMember) {
+        Map<String, Double> scores = new LinkedHashMap<>(dueAtMillisByMember.size() * 2);
+        dueAtMillisByMember.forEach((member, dueAt) -> scores.put(member, dueAt.doubleValue()));
+        redisUtil.zAddAll(KEY_PREFIX + queue, scores);
+    }
+
+    /**
+     * 예정 시각이 지난 항목 가져가기
+     * @param queue 큐 이름
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @param max 최대 개수
+     * @param visibilityMillis 처리 제한 시간 - 이 시간 안에 ack하지 않으면 다시 가져갈 수 있음
+     * @return 가져간 항목 (예정 시각 순)
+     */
+    public List<String> claimDue(String queue, long nowMillis, int max, long visibilityMillis) {
+        List<?> items = redisUtil.executeScript(CLAIM_SCRIPT, List.of(KEY_PREFIX + queue),
+                String.valueOf(nowMillis), String.valueOf(max), String.valueOf(nowMillis + visibilityMillis));
+        List<String> claimed = new ArrayList<>(items == null ? 0 : items.size());
+        if (items != null) {
+            for (Object item : items) {
+                claimed.add(String.valueOf(item));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리를 마친 항목 삭제
+     * @param queue 큐 이름
+     * @param members 처리한 항목
+     */
+    public void ack(String queue, Collection<String> members) {
+        redisUtil.zRemove(KEY_PREFIX + queue, members.toArray(new String[0]));
+    }
+
+    /**
+     * 처리할 수 없는 항목을 실패 리스트로 옮김
+     * @param queue 큐 이름
+     * @param members 옮길 항목
+     */
+    public void deadLetter(String queue, Collection<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        redisUtil.executeScript(DEAD_LETTER_SCRIPT, List.of(KEY_PREFIX + queue, KEY_PREFIX + queue + DEAD_LETTER_SUFFIX),
+                members.toArray(new String[0]));
+    }
+}
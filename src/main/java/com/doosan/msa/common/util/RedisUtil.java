@@ -3,11 +3,22 @@ package com.doosan.msa.common.util;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -15,6 +26,10 @@ public class RedisUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(RedisUtil.class);
 
+    // XADD key MAXLEN ~ n * field value ... (추가와 길이 제한을 한 명령으로 처리)
+    private static final RedisScript<String> XADD_CAPPED_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', unpack(ARGV, 2))", String.class);
+
     private final StringRedisTemplate redisTemplate; // Redis 접근 클래스
 
     /**
@@ -82,6 +97,16 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * 키 존재 여부 확인 (EXISTS)
+     * @param key Redis 키
+     * @return 키가 있으면 true
+     */
+    public boolean hasKey(String key) {
+        logger.debug("hasKey 메서드 호출: key={}", key);
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
     /**
      * Redis에서 데이터를 삭제
      * @param key Redis 키
@@ -102,4 +127,225 @@ public class RedisUtil {
             logger.info("deleteData 메서드 종료: key={}", key);
         }
     }
+
+    /**
+     * Redis에 키가 없을 때만 데이터를 저장 (SETNX)
+     * @param key Redis 키
+     * @param value 저장할 값
+     * @return 저장 성공 여부
+     */
+    public boolean setDataIfAbsent(String key, String value) {
+        logger.debug("setDataIfAbsent 메서드 호출: key={}, value={}", key, value);
+        Boolean isSet = redisTemplate.opsForValue().setIfAbsent(key, value);
+        return Boolean.TRUE.equals(isSet);
+    }
+
+    /**
+     * Redis에 키가 없을 때만 데이터를 저장하고 만료 시간을 설정 (SET NX EX)
+     * @param key Redis 키
+     * @param value 저장할 값
+     * @param duration 만료 시간 (초)
+     * @return 저장 성공 여부
+     */
+    public boolean setDataIfAbsent(String key, String value, long duration) {
+        logger.debug("setDataIfAbsent 메서드 호출: key={}, value={}, duration={}초", key, value, duration);
+        Boolean isSet = redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(duration));
+        return Boolean.TRUE.equals(isSet);
+    }
+
+    /**
+     * Lua 스크립트를 원자적으로 실행
+     * - 주문 경로처럼 호출 빈도가 높은 곳에서 사용되므로 로그는 debug 레벨로만 남김
+     * @param script 실행할 스크립트
+     * @param keys 스크립트의 KEYS
+     * @param args 스크립트의 ARGV
+     * @return 스크립트 실행 결과
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        logger.debug("executeScript 메서드 호출: keys={}", keys);
+        try {
+            return redisTemplate.execute(script, keys, (Object[]) args);
+        } catch (Exception e) {
+            logger.error("Redis 스크립트 실행 중 예외 발생: keys={}, message={}", keys, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Sorted Set에서 멤버의 순위를 조회 (0부터 시작)
+     * @param key Redis 키
+     * @param member 조회할 멤버
+     * @return 순위, 멤버가 없으면 null
+     */
+    public Long rank(String key, String member) {
+        logger.debug("rank 메서드 호출: key={}, member={}", key, member);
+        return redisTemplate.opsForZSet().rank(key, member);
+    }
+
+    /**
+     * Sorted Set에 멤버를 추가하거나 점수를 갱신 (ZADD)
+     * @param key Redis 키
+     * @param member 멤버
+     * @param score 점수
+     */
+    public void zAdd(String key, String member, double score) {
+        logger.debug("zAdd 메서드 호출: key={}, member={}", key, member);
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    /**
+     * Sorted Set에 여러 멤버를 한 번에 추가하거나 점수를 갱신 (ZADD, 1회 왕복)
+     * @param key Redis 키
+     * @param scores 멤버별 점수
+     */
+    public void zAddAll(String key, Map<String, Double> scores) {
+        logger.debug("zAddAll 메서드 호출: key={}, count={}", key, scores.size());
+        if (scores.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(scores.size() * 2);
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            tuples.add(new DefaultTypedTuple<>(entry.getKey(), entry.getValue()));
+        }
+        redisTemplate.opsForZSet().add(key, tuples);
+    }
+
+    /**
+     * Sorted Set에서 멤버를 삭제 (ZREM)
+     * @param key Redis 키
+     * @param members 삭제할 멤버
+     * @return 삭제된 멤버 수
+     */
+    public Long zRemove(String key, String... members) {
+        logger.debug("zRemove 메서드 호출: key={}, count={}", key, members.length);
+        if (members.length == 0) {
+            return 0L;
+        }
+        return redisTemplate.opsForZSet().remove(key, (Object[]) members);
+    }
+
+    /**
+     * Sorted Set에서 점수 범위의 멤버를 점수와 함께 조회 (ZRANGEBYSCORE WITHSCORES LIMIT)
+     * @param key Redis 키
+     * @param min 최소 점수
+     * @param max 최대 점수
+     * @param count 최대 조회 수 (음수면 전체)
+     * @return 점수 오름차순 멤버와 점수
+     */
+    public Set<ZSetOperations.TypedTuple<String>> zRangeByScoreWithScores(String key, double min, double max, long count) {
+        logger.debug("zRangeByScoreWithScores 메서드 호출: key={}, min={}, max={}", key, min, max);
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeByScoreWithScores(key, min, max, 0, count);
+        return tuples == null ? Collections.emptySet() : tuples;
+    }
+
+    /**
+     * 점수가 모두 같은 Sorted Set에서 사전순으로 주어진 값보다 큰 멤버 조회 (ZRANGEBYLEX (after + LIMIT 0 count)
+     * @param key Redis 키
+     * @param after 이 값보다 큰 멤버부터 조회
+     * @param count 최대 조회 수
+     * @return 사전순 멤버
+     */
+    public Set<String> zRangeByLex(String key, String after, long count) {
+        logger.debug("zRangeByLex 메서드 호출: key={}, after={}, count={}", key, after, count);
+        Set<String> members = redisTemplate.opsForZSet().rangeByLex(key,
+                RedisZSetCommands.Range.range().gt(after), RedisZSetCommands.Limit.limit().count((int) count));
+        return members == null ? Collections.emptySet() : members;
+    }
+
+    /**
+     * Sorted Set에서 점수 내림차순으로 순위 범위의 멤버를 점수와 함께 조회 (ZREVRANGE WITHSCORES)
+     * @param key Redis 키
+     * @param start 시작 순위 (0부터)
+     * @param end 끝 순위 (포함)
+     * @return 점수 내림차순 멤버와 점수
+     */
+    public Set<ZSetOperations.TypedTuple<String>> zRevRangeWithScores(String key, long start, long end) {
+        logger.debug("zRevRangeWithScores 메서드 호출: key={}, start={}, end={}", key, start, end);
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        return tuples == null ? Collections.emptySet() : tuples;
+    }
+
+    /**
+     * Sorted Set 멤버의 점수 조회 (ZSCORE)
+     * @param key Redis 키
+     * @param member 멤버
+     * @return 점수, 멤버가 없으면 null
+     */
+    public Double zScore(String key, String member) {
+        logger.debug("zScore 메서드 호출: key={}, member={}", key, member);
+        return redisTemplate.opsForZSet().score(key, member);
+    }
+
+    /**
+     * Hash의 필드 값 조회 (HGET)
+     * @param key Redis 키
+     * @param field 필드
+     * @return 값, 없으면 null
+     */
+    public String hGet(String key, String field) {
+        logger.debug("hGet 메서드 호출: key={}, field={}", key, field);
+        return redisTemplate.<String, String>opsForHash().get(key, field);
+    }
+
+    /**
+     * 리스트 끝에 값 추가 (RPUSH)
+     * @param key Redis 키
+     * @param values 추가할 값
+     */
+    public void listPush(String key, List<String> values) {
+        logger.debug("listPush 메서드 호출: key={}, {}건", key, values.size());
+        redisTemplate.opsForList().rightPushAll(key, values);
+    }
+
+    /**
+     * 리스트의 범위 조회 (LRANGE)
+     * @param key Redis 키
+     * @param start 시작 인덱스
+     * @param end 끝 인덱스 (포함, -1이면 끝까지)
+     * @return 범위의 값
+     */
+    public List<String> listRange(String key, long start, long end) {
+        logger.debug("listRange 메서드 호출: key={}, start={}, end={}", key, start, end);
+        List<String> values = redisTemplate.opsForList().range(key, start, end);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    /**
+     * 리스트를 범위만 남기고 잘라냄 (LTRIM)
+     * @param key Redis 키
+     * @param start 남길 시작 인덱스
+     * @param end 남길 끝 인덱스 (포함, -1이면 끝까지)
+     */
+    public void listTrim(String key, long start, long end) {
+        logger.debug("listTrim 메서드 호출: key={}, start={}, end={}", key, start, end);
+        redisTemplate.opsForList().trim(key, start, end);
+    }
+
+    /**
+     * 채널에 메시지를 발행 (Pub/Sub)
+     * @param channel 채널 이름
+     * @param message 발행할 메시지
+     */
+    public void publish(String channel, String message) {
+        logger.debug("publish 메서드 호출: channel={}, message={}", channel, message);
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    /**
+     * 스트림에 레코드를 추가하고 길이를 대략 maxLength 수준으로 유지 (XADD MAXLEN ~, 한 번의 명령)
+     * @param key 스트림 키
+     * @param fields 레코드 필드
+     * @param maxLength 유지할 최대 길이
+     * @return 추가된 레코드 ID
+     */
+    public String addToStream(String key, Map<String, String> fields, long maxLength) {
+        logger.debug("addToStream 메서드 호출: key={}", key);
+        List<String> args = new ArrayList<>(fields.size() * 2 + 1);
+        args.add(String.valueOf(maxLength));
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            args.add(field.getKey());
+            args.add(field.getValue());
+        }
+        return redisTemplate.execute(XADD_CAPPED_SCRIPT, Collections.singletonList(key), args.toArray(new Object[0]));
+    }
 }
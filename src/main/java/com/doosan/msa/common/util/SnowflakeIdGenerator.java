@@ -0,0 +1,83 @@
+package com.doosan.msa.common.util;
+
+/**
+ * 시간 순 정렬되는 64비트 ID 생성기 (Snowflake 방식)
+ * - [41비트 타임스탬프(ms)][10비트 노드 ID][12비트 시퀀스]
+ * - DB 왕복 없이 애플리케이션에서 ID를 발급하므로 Hibernate JDBC insert 배치가 가능해짐
+ * - 인스턴스마다 서로 다른 노드 ID를 사용해야 ID가 충돌하지 않음
+ * - 발급되는 값은 2^53을 넘으므로 JSON 응답에서는 문자열로 내보냄 (JavaScript number로 읽으면 정밀도가 깨짐)
+ */
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_BACKWARD_MILLIS = 5; // 허용하는 시계 역행 범위
+
+    private static volatile SnowflakeIdGenerator instance = new SnowflakeIdGenerator(0);
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 애플리케이션 전역 생성기의 노드 ID 설정 (엔티티 저장 전에 한 번 호출)
+     * @param nodeId 노드 ID
+     */
+    public static void initialize(long nodeId) {
+        instance = new SnowflakeIdGenerator(nodeId);
+    }
+
+    public static SnowflakeIdGenerator getInstance() {
+        return instance;
+    }
+
+    /**
+     * 다음 ID 발급
+     * - 같은 밀리초에 4096개를 넘게 발급하면 다음 밀리초까지 대기
+     */
+    public synchronized long nextId() {
+        long timestamp = System.currentTimeMillis();
+
+        if (timestamp < lastTimestamp) {
+            long backward = lastTimestamp - timestamp;
+            if (backward > MAX_BACKWARD_MILLIS) {
+                throw new IllegalStateException("시스템 시계가 " + backward + "ms 역행하여 ID를 발급할 수 없습니다.");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private static long waitUntil(long target) {
+        long timestamp = System.currentTimeMillis();
+        while (timestamp < target) {
+            Thread.onSpinWait();
+            timestamp = System.currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,204 @@
+package com.doosan.msa.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스트라이프 분할 재고 카운터
+ * - 남은 수량을 여러 슬롯에 나누어 보관하고, 각 스레드는 자신에게 배정된 슬롯부터 CAS로 차감
+ * - 슬롯 값이 0보다 클 때만 차감하므로 경합 상황에서도 초과 차감이 발생하지 않음
+ * - 차감 경로는 객체를 생성하지 않음
+ * - 슬롯보다 큰 감소(정원 축소)는 부족분으로 따로 보관하고, 이후 증가분은 부족분부터 채움
+ * - 여러 개 차감은 슬롯을 나누어 비우는 동안 잠시 수량이 빠져 보이므로, 여러 개 차감끼리는 잠금으로 한 번에 하나만 실행하고
+ *   그 사이 1개 차감이 실패하면 여러 개 차감이 끝난 뒤 다시 확인 (일시적으로 빠진 수량을 매진으로 보지 않음)
+ */
+public class StripedCounter {
+
+    private static final int PADDING = 8; // 슬롯 간 false sharing 방지 (64바이트 캐시 라인)
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    private final int mask;
+    private final AtomicLong deficit = new AtomicLong(); // 슬롯에서 차감하지 못한 감소량
+    private final Object batchLock = new Object(); // 여러 개 차감 직렬화
+    private final AtomicLong batchStarts = new AtomicLong(); // 시작한 여러 개 차감 수
+    private final AtomicLong batchEnds = new AtomicLong(); // 끝난 여러 개 차감 수 (시작 수와 다르면 진행 중)
+
+    /**
+     * @param initial 초기 수량 (음수면 부족분으로 시작)
+     * @param stripes 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    public StripedCounter(long initial, int stripes) {
+        int n = 1;
+        while (n < stripes) {
+            n <<= 1;
+        }
+        this.stripes = n;
+        this.mask = n - 1;
+        this.cells = new AtomicLongArray(n * PADDING);
+        if (initial < 0) {
+            deficit.set(-initial);
+            return;
+        }
+
+        long share = initial / n;
+        long rest = initial % n;
+        for (int i = 0; i < n; i++) {
+            cells.set(i * PADDING, share + (i < rest ? 1 : 0));
+        }
+    }
+
+    /**
+     * 1개 차감 시도
+     * @return 차감 성공 여부, 모든 슬롯이 비어 있으면 false
+     */
+    public boolean tryAcquire() {
+        long starts = batchStarts.get();
+        boolean batchInFlight = starts != batchEnds.get();
+        if (acquireOne()) {
+            return true;
+        }
+        if (!batchInFlight && batchStarts.get() == starts) {
+            return false; // 확인하는 동안 여러 개 차감이 없었으므로 실제로 비어 있음
+        }
+        synchronized (batchLock) {
+            return acquireOne(); // 진행 중이던 여러 개 차감이 끝난(되돌린) 뒤 다시 확인
+        }
+    }
+
+    /**
+     * count개를 한 번에 차감 시도 (전부 차감하거나 전혀 차감하지 않음)
+     * - 여러 슬롯에서 나누어 차감하고, 모자라면 차감했던 수량을 되돌림
+     * @param count 차감할 수량
+     * @return 차감 성공 여부
+     */
+    public boolean tryAcquire(long count) {
+        if (count <= 0) {
+            return true;
+        }
+        synchronized (batchLock) {
+            batchStarts.incrementAndGet();
+            try {
+                return acquireMany(count);
+            } finally {
+                batchEnds.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean acquireOne() {
+        int start = probe();
+        for (int n = 0; n < stripes; n++) {
+            int slot = ((start + n) & mask) * PADDING;
+            long value;
+            while ((value = cells.get(slot)) > 0) {
+                if (cells.compareAndSet(slot, value, value - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean acquireMany(long count) {
+        int start = probe();
+        long toTake = count;
+        for (int n = 0; n < stripes && toTake > 0; n++) {
+            int slot = ((start + n) & mask) * PADDING;
+            long value;
+            while (toTake > 0 && (value = cells.get(slot)) > 0) {
+                long taken = Math.min(value, toTake);
+                if (cells.compareAndSet(slot, value, value - taken)) {
+                    toTake -= taken;
+                }
+            }
+        }
+        if (toTake > 0) {
+            cells.addAndGet(start * PADDING, count - toTake);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 수량 증감
+     * - 증가분은 부족분을 먼저 채운 뒤 슬롯에 더함
+     * - 감소는 슬롯에 남은 수량만큼 차감하고, 나머지는 부족분으로 보관 (이후 반환이 부족분을 채울 때까지 차감 불가)
+     * @param delta 증감량
+     */
+    public void add(long delta) {
+        if (delta >= 0) {
+            long rest = payDeficit(delta);
+            if (rest > 0) {
+                cells.addAndGet(probe() * PADDING, rest);
+                settle(); // 동시에 부족분이 생겼으면 방금 더한 수량으로 채움
+            }
+            return;
+        }
+        long rest = drain(-delta);
+        if (rest > 0) {
+            deficit.addAndGet(rest);
+            settle(); // 부족분을 기록하는 사이 반환된 수량이 있으면 바로 상계
+        }
+    }
+
+    /**
+     * 현재 남은 수량, 부족분이 있으면 음수 (동시 변경 중에는 근사값)
+     */
+    public long sum() {
+        long sum = -deficit.get();
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    // 슬롯에서 최대 amount만큼 차감하고 차감하지 못한 수량을 반환
+    private long drain(long amount) {
+        long toTake = amount;
+        for (int n = 0; n < stripes && toTake > 0; n++) {
+            int slot = n * PADDING;
+            long value;
+            while (toTake > 0 && (value = cells.get(slot)) > 0) {
+                long taken = Math.min(value, toTake);
+                if (cells.compareAndSet(slot, value, value - taken)) {
+                    toTake -= taken;
+                }
+            }
+        }
+        return toTake;
+    }
+
+    // 부족분을 최대 amount만큼 채우고 남은 증가분을 반환
+    private long payDeficit(long amount) {
+        long owed;
+        while ((owed = deficit.get()) > 0) {
+            long paid = Math.min(owed, amount);
+            if (deficit.compareAndSet(owed, owed - paid)) {
+                return amount - paid;
+            }
+        }
+        return amount;
+    }
+
+    // 부족분과 슬롯 잔량이 동시에 남아 있으면 서로 상계
+    private void settle() {
+        long owed;
+        while ((owed = deficit.get()) > 0) {
+            long taken = owed - drain(owed);
+            if (taken == 0) {
+                return;
+            }
+            long rest = payDeficit(taken);
+            if (rest > 0) {
+                cells.addAndGet(probe() * PADDING, rest); // 그 사이 다른 스레드가 부족분을 채웠으면 남은 수량을 되돌림
+                return;
+            }
+        }
+    }
+
+    private int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & mask;
+    }
+}
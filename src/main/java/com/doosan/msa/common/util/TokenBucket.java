@@ -0,0 +1,61 @@
+package com.doosan.msa.common.util;
+
+/**
+ * 토큰 버킷
+ * - 최대 capacity개의 토큰을 초당 refillPerSecond개씩 채우고, 요청마다 토큰 1개를 소모
+ * - 채우기는 요청 시점에 경과 시간만큼 한 번에 계산하므로 별도 타이머가 필요 없음
+ * - 시각은 호출하는 쪽에서 System.nanoTime()으로 전달 (테스트에서 시각 고정 가능)
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param capacity 최대 토큰 수 (순간 허용량)
+     * @param refillPerSecond 초당 채워지는 토큰 수 (지속 허용량)
+     * @param nowNanos 생성 시각, 가득 찬 상태로 시작
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("잘못된 토큰 버킷 설정입니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰 1개 소모 시도
+     * @param nowNanos 현재 시각
+     * @return 토큰이 있었으면 true
+     */
+    public synchronized boolean tryAcquire(long nowNanos) {
+        refill(nowNanos);
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 버킷이 가득 찼는지 (새 버킷과 같으므로 정리해도 동작이 달라지지 않음)
+     * @param nowNanos 현재 시각
+     */
+    public synchronized boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.doosan.msa.exam.controller;
 
 import com.doosan.msa.exam.dto.requestDTO.ExamSessionRequestDTO;
 import com.doosan.msa.exam.dto.responseDTO.ExamSessionResponseDTO;
+import com.doosan.msa.exam.dto.responseDTO.PopularSessionDTO;
 import com.doosan.msa.exam.service.ExamSessionService;
 import com.doosan.msa.exam.dto.responseDTO.ResponseDTO;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,23 @@ public class ExamSessionController {
         );
     }
 
+    // 인기 시험 세션 조회 (위시리스트 관심 사용자 수 순)
+    @GetMapping("/sessions/popular")
+    public ResponseEntity<ResponseDTO<List<PopularSessionDTO>>> getPopularSessions(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "SUCCESS", "인기 세션 조회 성공", examSessionService.getPopularSessions(limit))
+        );
+    }
+
+    // 시험 세션의 위시리스트 관심 사용자 수 조회
+    @GetMapping("/sessions/{sessionId}/wishes")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> getWishCount(@PathVariable Long sessionId) {
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "SUCCESS", "관심 사용자 수 조회 성공",
+                        Map.of("sessionId", sessionId, "wishCount", examSessionService.getWishCount(sessionId)))
+        );
+    }
+
     // 특정 시험 세션 단건 조회
     @GetMapping("/sessions/{sessionId}")
     public ResponseEntity<ResponseDTO<ExamSessionResponseDTO>> getSession(@PathVariable Long sessionId) {
@@ -3,6 +3,7 @@ package com.doosan.msa.exam.dto.requestDTO;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -23,6 +24,12 @@ public class ExamSessionRequestDTO {
 
     private boolean sub; // 세션의 서브 여부를 나타내는 플래그 , true: 서브 세션, false: 메인 세션
 
+    private Integer capacity; // 세션 정원 , null이면 정원 제한 없음
+
+    private LocalDateTime saleOpensAt; // 판매 시작 시각 , null이면 즉시 판매
+
+    private LocalDateTime saleClosesAt; // 판매 종료 시각 , null이면 종료 없음
+
     private List<StatusDTO> status;
 
     @Data
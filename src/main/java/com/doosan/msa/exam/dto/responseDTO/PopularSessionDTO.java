@@ -0,0 +1,18 @@
+package com.doosan.msa.exam.dto.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 시험 세션(위시리스트 관심 사용자 수 순위) 응답 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularSessionDTO {
+    private Long sessionId; // 세션 ID
+    private String name; // 세션 이름
+    private String category; // 카테고리
+    private long wishCount; // 위시리스트에 담은 사용자 수
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,6 +38,15 @@ public class ExamSession {
     @Column(nullable = false)
     private boolean sub; // 서브 세션 여부
 
+    @Column(name = "capacity")
+    private Integer capacity; // 세션 정원 (null이면 정원 제한 없음)
+
+    @Column(name = "sale_opens_at")
+    private LocalDateTime saleOpensAt; // 판매 시작 시각 (null이면 즉시 판매)
+
+    @Column(name = "sale_closes_at")
+    private LocalDateTime saleClosesAt; // 판매 종료 시각 (null이면 종료 없음)
+
     // 상태(Status)와의 일대다 관계 설정
     @OneToMany(
             mappedBy = "examSession", // 상태(Status) 엔티티의 "examSession" 필드와 매핑
@@ -24,6 +24,10 @@ public interface ExamSessionRepository extends JpaRepository<ExamSession, Long>
     @Query("SELECT ts FROM ExamSession ts LEFT JOIN FETCH ts.status WHERE ts.id = :id")
     Optional<ExamSession> findByIdWithStatus(@Param("id") Long id);
 
+    // 판매 시작/종료 시각이 지정된 세션 조회 (판매 게이트 적재용)
+    @Query("SELECT ts FROM ExamSession ts WHERE ts.saleOpensAt IS NOT NULL OR ts.saleClosesAt IS NOT NULL")
+    List<ExamSession> findAllWithSaleWindow();
+
 
 
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.doosan.msa.exam.service;
+
+import com.doosan.msa.common.util.ConcurrentLongMap;
+import com.doosan.msa.exam.entity.ExamSession;
+import com.doosan.msa.exam.repository.ExamSessionRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시험 세션 읽기 캐시 (Read-Through)
+ * - 주문 경로에서 같은 인기 세션을 매번 SELECT 하지 않도록 불변 스냅샷을 로컬 메모리에 보관
+ * - 세션 수정/삭제 시 커밋 이후 무효화, 다른 인스턴스의 변경은 TTL이 지나면 반영
+ * - 존재하지 않는 세션은 캐시하지 않음
+ */
+@Slf4j
+@Component
+public class ExamSessionCache {
+
+    private final ExamSessionRepository examSessionRepository;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentLongMap<Entry> entries = new ConcurrentLongMap<>();
+
+    public ExamSessionCache(ExamSessionRepository examSessionRepository,
+                            @Value("${exam.session-cache.max-size:1024}") int maxSize,
+                            @Value("${exam.session-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.examSessionRepository = examSessionRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 시험 세션 스냅샷 조회, 캐시에 없거나 만료되었으면 DB에서 읽어 채움
+     * @param sessionId 시험 세션 ID
+     * @return 스냅샷, 세션이 없으면 null
+     */
+    public Snapshot get(long sessionId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(sessionId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.snapshot;
+        }
+
+        Snapshot snapshot = examSessionRepository.findById(sessionId)
+                .map(Snapshot::new)
+                .orElse(null);
+        if (snapshot == null) {
+            entries.remove(sessionId);
+            return null;
+        }
+
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+        }
+        entries.put(sessionId, new Entry(snapshot, now + ttlMillis));
+        log.debug("시험 세션 캐시 적재: {}", sessionId);
+        return snapshot;
+    }
+
+    /**
+     * 세션 변경 시 캐시 무효화 - 트랜잭션 안이면 커밋 이후에 제거
+     * @param sessionId 시험 세션 ID
+     */
+    public void evict(long sessionId) {
+        entries.remove(sessionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 요청이 이전 값을 다시 적재했을 수 있으므로 커밋 이후 한 번 더 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(sessionId);
+                }
+            });
+        }
+    }
+
+    // 용량 초과 시 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 전체 비움
+    private void evictExpired(long now) {
+        for (long key : entries.keys()) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt <= now) {
+                entries.remove(key);
+            }
+        }
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final Snapshot snapshot;
+        private final long expiresAt;
+
+        private Entry(Snapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 시험 세션 불변 스냅샷 (지연 로딩 컬렉션은 포함하지 않음)
+     */
+    @Getter
+    public static final class Snapshot {
+        private final long id;
+        private final String category;
+        private final String name;
+        private final boolean online;
+        private final boolean sub;
+        private final Integer capacity;
+        private final LocalDateTime saleOpensAt;
+        private final LocalDateTime saleClosesAt;
+
+        private Snapshot(ExamSession session) {
+            this.id = session.getId();
+            this.category = session.getCategory();
+            this.name = session.getName();
+            this.online = Boolean.TRUE.equals(session.getOnline());
+            this.sub = session.isSub();
+            this.capacity = session.getCapacity();
+            this.saleOpensAt = session.getSaleOpensAt();
+            this.saleClosesAt = session.getSaleClosesAt();
+        }
+    }
+}
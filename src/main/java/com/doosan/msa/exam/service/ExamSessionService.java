@@ -4,16 +4,25 @@ import com.doosan.msa.common.shared.Authority;
 import com.doosan.msa.common.util.AESUtil;
 import com.doosan.msa.exam.dto.requestDTO.ExamSessionRequestDTO;
 import com.doosan.msa.exam.dto.responseDTO.ExamSessionResponseDTO;
+import com.doosan.msa.exam.dto.responseDTO.PopularSessionDTO;
 import com.doosan.msa.exam.entity.Status;
 import com.doosan.msa.exam.entity.ExamSession;
 import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.order.service.BuyerBloomFilter;
+import com.doosan.msa.order.service.SaleGate;
+import com.doosan.msa.order.service.SeatInventory;
+import com.doosan.msa.order.service.SoldOutSignal;
+import com.doosan.msa.order.service.WishListStore;
 import com.doosan.msa.user.entity.User;
 import com.doosan.msa.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,12 +37,20 @@ import javax.servlet.http.HttpServletRequest;
 @Slf4j
 public class ExamSessionService {
 
+    private static final int MAX_POPULAR_SESSIONS = 100; // 인기 세션 순위 최대 조회 수
+
     private final ExamSessionRepository examSessionRepository;
     private final TokenProvider tokenProvider; // 주입 추가
     private final UserRepository userRepository; // UserRepository 필드 추가
+    private final SeatInventory seatInventory; // 정원 변경/세션 삭제 시 좌석 재고 갱신
+    private final BuyerBloomFilter buyerBloomFilter; // 세션 삭제 시 구매자 필터 제거
+    private final ExamSessionCache examSessionCache; // 세션 수정/삭제 시 주문 경로 캐시 무효화
+    private final SaleGate saleGate; // 세션 판매 구간 등록
+    private final SoldOutSignal soldOutSignal; // 정원 변경/세션 삭제 시 매진 플래그 해제
+    private final WishListStore wishListStore; // 세션별 위시리스트 관심 수
 
     // 모든 시험 세션 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ExamSessionResponseDTO> getAllSessions() {
         List<ExamSession> sessions = examSessionRepository.findAllWithStatus(); // n+1 문제 해결 JPQL로 변경 join fetch를 활용한 데이터 로딩 적용
 
@@ -46,6 +63,25 @@ public class ExamSessionService {
                 .collect(Collectors.toList());
     }
 
+    // 인기 시험 세션 조회 - 위시리스트 관심 사용자 수 순위 (Redis Sorted Set, DB 조회 없음)
+    public List<PopularSessionDTO> getPopularSessions(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_POPULAR_SESSIONS));
+        List<PopularSessionDTO> sessions = new ArrayList<>(size);
+        for (Map.Entry<Long, Long> entry : wishListStore.topSessions(size).entrySet()) {
+            ExamSessionCache.Snapshot session = examSessionCache.get(entry.getKey());
+            if (session == null) {
+                continue; // 삭제된 세션
+            }
+            sessions.add(new PopularSessionDTO(session.getId(), session.getName(), session.getCategory(), entry.getValue()));
+        }
+        return sessions;
+    }
+
+    // 시험 세션의 위시리스트 관심 사용자 수 조회
+    public long getWishCount(Long sessionId) {
+        return wishListStore.countFor(sessionId);
+    }
+
     // 특정 시험 세션 조회
     @Transactional(readOnly = true)
     public ExamSessionResponseDTO getSessionById(Long sessionId) {
@@ -90,6 +126,8 @@ public class ExamSessionService {
         session.setName(sessionRequestDTO.getName());
         session.setOnline(sessionRequestDTO.isOnline());
         session.setSub(sessionRequestDTO.isSub());
+        session.setCapacity(sessionRequestDTO.getCapacity());
+        applySaleWindow(session, sessionRequestDTO);
 
         for (ExamSessionRequestDTO.StatusDTO statusDto : sessionRequestDTO.getStatus()) {
             Status status = new Status();
@@ -100,6 +138,7 @@ public class ExamSessionService {
         }
 
         ExamSession savedSession = examSessionRepository.save(session);
+        afterCommit(() -> saleGate.register(savedSession.getId(), savedSession.getSaleOpensAt(), savedSession.getSaleClosesAt()));
         log.info("시험 세션 생성 완료. ID: {}", savedSession.getId());
 
         return Map.of(
@@ -112,6 +151,31 @@ public class ExamSessionService {
         );
     }
 
+    // 판매 시작/종료 시각 설정
+    private void applySaleWindow(ExamSession session, ExamSessionRequestDTO sessionRequestDTO) {
+        LocalDateTime opensAt = sessionRequestDTO.getSaleOpensAt();
+        LocalDateTime closesAt = sessionRequestDTO.getSaleClosesAt();
+        if (opensAt != null && closesAt != null && !opensAt.isBefore(closesAt)) {
+            throw new IllegalArgumentException("판매 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        session.setSaleOpensAt(opensAt);
+        session.setSaleClosesAt(closesAt);
+    }
+
+    // 트랜잭션 커밋 이후 실행 (롤백되면 좌석 재고 등 DB 밖 상태를 바꾸지 않음), 트랜잭션 밖이면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private ExamSessionResponseDTO toResponseDto(ExamSession session) {
         return new ExamSessionResponseDTO(
                 session.getCategory(),
@@ -154,6 +218,13 @@ public class ExamSessionService {
 
         // 세션 삭제
         examSessionRepository.deleteById(sessionId);
+        afterCommit(() -> {
+            seatInventory.evict(sessionId);
+            soldOutSignal.publishRestock(sessionId);
+            buyerBloomFilter.evict(sessionId);
+        });
+        examSessionCache.evict(sessionId);
+        afterCommit(() -> saleGate.remove(sessionId));
         log.info("ID가 {}인 세션 삭제", sessionId);
     }
 
@@ -187,10 +258,13 @@ public class ExamSessionService {
         // 세션 조회 및 업데이트
         ExamSession session = examSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("세션을 찾을 수 없습니다: ID " + sessionId));
+        Integer oldCapacity = session.getCapacity();
         session.setCategory(sessionRequestDTO.getCategory());
         session.setName(sessionRequestDTO.getName());
         session.setOnline(sessionRequestDTO.isOnline());
         session.setSub(sessionRequestDTO.isSub());
+        session.setCapacity(sessionRequestDTO.getCapacity());
+        applySaleWindow(session, sessionRequestDTO);
 
         // 상태 업데이트 로직
         session.getStatus().clear();
@@ -202,6 +276,15 @@ public class ExamSessionService {
             session.getStatus().add(status);
         }
         examSessionRepository.save(session);
+        Integer newCapacity = session.getCapacity();
+        afterCommit(() -> {
+            seatInventory.capacityChanged(sessionId, oldCapacity, newCapacity); // 정원 변경분을 좌석 재고에 반영
+            soldOutSignal.publishRestock(sessionId); // 정원이 늘었을 수 있으므로 매진 플래그 해제, 여전히 매진이면 다음 주문에서 다시 표시됨
+        });
+        examSessionCache.evict(sessionId);
+        LocalDateTime saleOpensAt = session.getSaleOpensAt();
+        LocalDateTime saleClosesAt = session.getSaleClosesAt();
+        afterCommit(() -> saleGate.register(sessionId, saleOpensAt, saleClosesAt));
         log.info("ID가 {}인 세션 수정", sessionId);
 
         // 반환할 데이터 구성
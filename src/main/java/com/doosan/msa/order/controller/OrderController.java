@@ -1,19 +1,30 @@
 package com.doosan.msa.order.controller;
 
+import com.doosan.msa.order.dto.requestDTO.BatchOrderRequestDTO;
 import com.doosan.msa.order.dto.requestDTO.OrderRequestDTO;
+import com.doosan.msa.order.dto.requestDTO.OrderTransitionRequestDTO;
+import com.doosan.msa.order.dto.requestDTO.PaymentConfirmRequestDTO;
 import com.doosan.msa.order.dto.requestDTO.WishListRequestDTO;
+import com.doosan.msa.order.dto.responseDTO.CursorPageDTO;
 import com.doosan.msa.order.dto.responseDTO.OrderResponseDTO;
 import com.doosan.msa.order.dto.responseDTO.WishListResponseDTO;
+import com.doosan.msa.order.service.IdempotencyService;
+import com.doosan.msa.order.service.OrderExportService;
 import com.doosan.msa.order.service.OrderService;
+import com.doosan.msa.order.service.SeatStockReconciler;
+import com.doosan.msa.order.util.ShippingScheduler;
 import com.doosan.msa.order.dto.responseDTO.ResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -24,23 +35,123 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
+    private static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+    private static final String DEFAULT_PAGE_SIZE = "20";
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final SeatStockReconciler seatStockReconciler;
+    private final OrderExportService orderExportService;
+    private final ShippingScheduler shippingScheduler;
 
-    // 주문하기
+    // 주문하기 - Idempotency-Key 헤더가 있으면 재시도 요청에 저장된 응답을 반환 (키 범위는 토큰 검증을 거친 사용자)
     @PostMapping
-    public ResponseEntity<ResponseDTO<Map<String, Object>>> createOrder( HttpServletRequest request,@RequestBody @Valid OrderRequestDTO orderRequestDTO) {
-        Map<String, Object> responseData = orderService.createOrder(request, orderRequestDTO);
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> createOrder(HttpServletRequest request,
+                                                                       @RequestHeader(value = IDEMPOTENCY_HEADER, required = false) String idempotencyKey,
+                                                                       @RequestBody @Valid OrderRequestDTO orderRequestDTO) {
+        Map<String, Object> responseData = idempotencyKey == null
+                ? orderService.createOrder(request, orderRequestDTO)
+                : idempotencyService.execute("order:" + orderService.requireSubject(request), idempotencyKey, orderRequestDTO,
+                        () -> orderService.createOrder(request, orderRequestDTO));
         return ResponseEntity.status(201).body(
                 ResponseDTO.success(201, "ORDER_CREATED", "시험 세션 주문이 성공적으로 완료 되었습니다.", responseData)
         );
     }
 
+    // 비동기 주문하기 - 접수 후 202와 접수표 ID 반환
+    @PostMapping("/async")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> submitOrder(HttpServletRequest request,
+                                                                       @RequestHeader(value = IDEMPOTENCY_HEADER, required = false) String idempotencyKey,
+                                                                       @RequestBody @Valid OrderRequestDTO orderRequestDTO) {
+        Map<String, Object> responseData = idempotencyKey == null
+                ? orderService.submitOrder(request, orderRequestDTO)
+                : idempotencyService.execute("order-async:" + orderService.requireSubject(request), idempotencyKey, orderRequestDTO,
+                        () -> orderService.submitOrder(request, orderRequestDTO));
+        return ResponseEntity.status(202).body(
+                ResponseDTO.success(202, "ORDER_ACCEPTED", "주문이 접수되었습니다. 접수표로 처리 결과를 조회해주세요.", responseData)
+        );
+    }
+
+    // 일괄 주문하기 (기관 구매) - 항목별 결과 반환
+    @PostMapping("/batch")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> createBatchOrder(HttpServletRequest request,
+                                                                            @RequestBody BatchOrderRequestDTO batchOrderRequestDTO) {
+        Map<String, Object> responseData = orderService.createBatchOrder(request, batchOrderRequestDTO);
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "BATCH_ORDER_PROCESSED", "일괄 주문이 처리되었습니다. 항목별 결과를 확인해주세요.", responseData)
+        );
+    }
+
+    // 좌석 점유하기 - 결제 대기 주문 생성, 응답의 expiresAt까지 결제를 확정해야 함
+    @PostMapping("/holds")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> createHold(HttpServletRequest request,
+                                                                      @RequestHeader(value = IDEMPOTENCY_HEADER, required = false) String idempotencyKey,
+                                                                      @RequestBody @Valid OrderRequestDTO orderRequestDTO) {
+        Map<String, Object> responseData = idempotencyKey == null
+                ? orderService.createHold(request, orderRequestDTO)
+                : idempotencyService.execute("order-hold:" + orderService.requireSubject(request), idempotencyKey, orderRequestDTO,
+                        () -> orderService.createHold(request, orderRequestDTO));
+        return ResponseEntity.status(201).body(
+                ResponseDTO.success(201, "SEAT_HELD", "좌석이 점유되었습니다. 제한 시간 안에 결제를 완료해주세요.", responseData)
+        );
+    }
+
+    // 결제 확정 - 주문자 본인의 결제 대기 주문을 결제 확인 후 확정 주문으로 전환
+    @PostMapping("/{orderId}/payment")
+    public ResponseEntity<Map<String, Object>> confirmPayment(HttpServletRequest request,
+                                                              @PathVariable Long orderId,
+                                                              @RequestBody PaymentConfirmRequestDTO paymentConfirmRequestDTO) {
+        logger.info("결제 확정 요청: 주문 ID {}", orderId);
+        orderService.confirmPayment(request, orderId, paymentConfirmRequestDTO.getPaymentReference());
+        return ResponseEntity.ok(Map.of("success", true, "message", "결제가 확정되었습니다."));
+    }
+
+    // 좌석 재고 대사 지표 조회
+    @GetMapping("/stock/reconciliation")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> getStockReconciliation() {
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "SUCCESS", "좌석 재고 대사 지표 조회 성공", seatStockReconciler.getStats())
+        );
+    }
+
+    // 배송 상태 업데이트 지표 조회
+    @GetMapping("/shipping/stats")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> getShippingStats() {
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "SUCCESS", "배송 상태 업데이트 지표 조회 성공", shippingScheduler.getStats())
+        );
+    }
+
+    // 시험 세션 주문 내보내기 (format=csv|ndjson) - 전체를 메모리에 올리지 않고 조회하는 대로 응답에 기록
+    @GetMapping("/sessions/{examSessionId}/export")
+    public ResponseEntity<StreamingResponseBody> exportSessionOrders(@PathVariable Long examSessionId,
+                                                                     @RequestParam(defaultValue = "csv") String format) {
+        OrderExportService.Format exportFormat = OrderExportService.Format.of(format);
+        orderExportService.requireSession(examSessionId);
+        String fileName = "session-" + examSessionId + "-orders." + exportFormat.name().toLowerCase();
+        StreamingResponseBody body = out -> orderExportService.export(examSessionId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    // 비동기 주문 접수표 조회
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> getOrderTicket(@PathVariable String ticketId) {
+        Map<String, Object> ticket = orderService.getOrderTicket(ticketId);
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "SUCCESS", "주문 접수표 조회 성공", ticket)
+        );
+    }
+
     // 사용자 주문 조회
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Map<String, Object>> getOrdersByUser(@PathVariable String userId) {
-        logger.info("사용자 ID: {}의 주문 조회 요청", userId);
-        List<OrderResponseDTO> orders = orderService.getOrdersByUser(userId);
-        return ResponseEntity.ok(Map.of("success", true, "data", orders));
+    public ResponseEntity<Map<String, Object>> getOrdersByUser(@PathVariable String userId,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        logger.info("사용자 ID: {}의 주문 조회 요청 (cursor: {})", userId, cursor);
+        CursorPageDTO<OrderResponseDTO> orders = orderService.getOrdersByUser(userId, cursor, size);
+        return ResponseEntity.ok(toPageBody(orders));
     }
 
     // 주문 삭제
@@ -65,6 +176,15 @@ public class OrderController {
         return ResponseEntity.ok(Map.of("success", true, "message", "Shipment completed"));
     }
 
+    // 주문 상태 일괄 전이 (관리 도구, 배치용)
+    @PostMapping("/transitions")
+    public ResponseEntity<Map<String, Object>> applyTransition(@RequestBody OrderTransitionRequestDTO request) {
+        logger.info("주문 상태 일괄 전이 요청: {}, {}건", request.getTransition(),
+                request.getOrderIds() == null ? 0 : request.getOrderIds().size());
+        Map<String, Object> result = orderService.applyTransition(request);
+        return ResponseEntity.ok(Map.of("success", true, "data", result));
+    }
+
     // 반품
     @PostMapping("/{orderId}/return")
     public ResponseEntity<Map<String, Object>> returnOrder(@PathVariable Long orderId) {
@@ -78,15 +198,17 @@ public class OrderController {
     public ResponseEntity<Map<String, Object>> addToWishList(@RequestBody @Valid WishListRequestDTO request) {
         logger.info("위시리스트 추가 요청: {}", request);
         Long wishListId = orderService.addToWishList(request);
-        return ResponseEntity.status(201).body(Map.of( "success", true, "message", "위시리스트에 추가되었습니다.","wishListId", wishListId ));
+        return ResponseEntity.status(201).body(Map.of( "success", true, "message", "위시리스트에 추가되었습니다.","wishListId", String.valueOf(wishListId) ));
     }
 
     // WishList 조회
     @GetMapping("/wishlist/user/{userId}")
-    public ResponseEntity<Map<String, Object>> getWishListByUser(@PathVariable String userId) {
-        logger.info("사용자 ID: {}의 위시리스트 조회 요청", userId);
-        List<WishListResponseDTO> wishLists = orderService.getWishListByUser(userId);
-        return ResponseEntity.ok(Map.of("success", true, "data", wishLists));
+    public ResponseEntity<Map<String, Object>> getWishListByUser(@PathVariable String userId,
+                                                                 @RequestParam(required = false) Long cursor,
+                                                                 @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        logger.info("사용자 ID: {}의 위시리스트 조회 요청 (cursor: {})", userId, cursor);
+        CursorPageDTO<WishListResponseDTO> wishLists = orderService.getWishListByUser(userId, cursor, size);
+        return ResponseEntity.ok(toPageBody(wishLists));
     }
 
     // WishList 삭제
@@ -96,4 +218,13 @@ public class OrderController {
         orderService.removeFromWishList(wishListId);
         return ResponseEntity.ok(Map.of("success", true, "message", "위시리스트에서 삭제되었습니다."));
     }
-}
\ No newline at end of file
+
+    // 커서 페이지 응답 본문 - 마지막 페이지의 next는 null이므로 Map.of 대신 LinkedHashMap 사용, 커서는 ID와 같이 문자열로 반환
+    private Map<String, Object> toPageBody(CursorPageDTO<?> page) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("data", page.getItems());
+        body.put("next", page.getNext() == null ? null : String.valueOf(page.getNext()));
+        return body;
+    }
+}
@@ -0,0 +1,43 @@
+package com.doosan.msa.order.controller;
+
+import com.doosan.msa.order.dto.responseDTO.ResponseDTO;
+import com.doosan.msa.order.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+
+import java.util.Map;
+
+/**
+ * 주문 대기열 컨트롤러
+ */
+@RestController
+@RequestMapping("/v1/api/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+    private static final Logger logger = LoggerFactory.getLogger(WaitingRoomController.class);
+    private final WaitingRoomService waitingRoomService;
+
+    // 대기표 발급 - 로그인한 사용자에게 발급하며, 입장 토큰은 이 사용자의 주문에만 사용 가능
+    @PostMapping("/tickets")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> issueTicket(HttpServletRequest request) {
+        Map<String, Object> ticket = waitingRoomService.issueTicket(request);
+        logger.debug("대기표 발급: {}", ticket);
+        return ResponseEntity.status(201).body(
+                ResponseDTO.success(201, "TICKET_ISSUED", "대기표가 발급되었습니다.", ticket)
+        );
+    }
+
+    // 대기표 순번/입장 여부 조회
+    @GetMapping("/tickets/{ticket}")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> getTicketStatus(@PathVariable String ticket) {
+        Map<String, Object> status = waitingRoomService.getTicketStatus(ticket);
+        return ResponseEntity.ok(
+                ResponseDTO.success(200, "SUCCESS", "대기표 조회 성공", status)
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.doosan.msa.order.dto.requestDTO;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 일괄 주문 요청 DTO 클래스 (기관 구매)
+ */
+@Data
+public class BatchOrderRequestDTO {
+    private List<OrderRequestDTO> lines; // 주문 항목 (사용자 ID, 시험 세션 ID)
+}
@@ -0,0 +1,14 @@
+package com.doosan.msa.order.dto.requestDTO;
+
+import com.doosan.msa.order.entity.OrderTransition;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 전이 요청 DTO 클래스
+ */
+@Data
+public class OrderTransitionRequestDTO {
+    private OrderTransition transition; // 적용할 전이 (START_SHIPMENT, COMPLETE_SHIPMENT, CANCEL, RETURN)
+    private List<Long> orderIds; // 대상 주문 ID 목록
+}
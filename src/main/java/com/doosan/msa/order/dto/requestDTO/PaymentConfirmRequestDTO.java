@@ -0,0 +1,11 @@
+package com.doosan.msa.order.dto.requestDTO;
+
+import lombok.Data;
+
+/**
+ * 결제 확정 요청 DTO 클래스
+ */
+@Data
+public class PaymentConfirmRequestDTO {
+    private String paymentReference; // 결제 대행사가 발급한 결제 참조 번호 (PaymentVerifier로 결제 완료 여부 확인)
+}
@@ -0,0 +1,24 @@
+package com.doosan.msa.order.dto.responseDTO;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 항목별 처리 결과 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderLineResultDTO {
+    private int line; // 요청 항목 순번 (0부터)
+    private String userId; // 사용자 ID
+    private Long examSessionId; // 시험 세션 ID
+    private boolean success; // 주문 생성 여부
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long orderId; // 생성된 주문 ID (실패 시 null, JSON 문자열)
+    private String code; // 결과 코드 (ORDER_CREATED, SOLD_OUT, DUPLICATE_ORDER 등)
+    private String message; // 실패 사유
+}
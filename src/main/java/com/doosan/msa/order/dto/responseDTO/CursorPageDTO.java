@@ -0,0 +1,20 @@
+package com.doosan.msa.order.dto.responseDTO;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이지 응답 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items; // 현재 페이지 항목
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long next; // 다음 페이지 요청 시 사용할 커서 (마지막 페이지면 null, JSON 문자열)
+}
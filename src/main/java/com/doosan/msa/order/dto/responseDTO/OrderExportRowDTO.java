@@ -0,0 +1,26 @@
+package com.doosan.msa.order.dto.responseDTO;
+
+import com.doosan.msa.order.entity.BookStatus;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+/**
+ * 시험 세션 주문 내보내기 행 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExportRowDTO {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long orderId; // 주문 ID (Snowflake ID, JSON 문자열)
+    private String userId; // 구매자 ID
+    private OrderStatus status; // 주문 상태
+    private LocalDate orderDate; // 주문 날짜
+    private BookStatus bookStatus; // 교재 배송 상태
+    private LocalDate deliveryDate; // 배송 (예정) 날짜
+}
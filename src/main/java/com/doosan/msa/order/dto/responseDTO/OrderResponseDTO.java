@@ -1,5 +1,8 @@
 package com.doosan.msa.order.dto.responseDTO;
 
+import com.doosan.msa.order.entity.OrderStatus;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,8 +15,9 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderResponseDTO {
-    private Long orderId; // 주문 ID
-    private String status; // 주문 상태 (예: CONFIRMED, SHIPPED 등)
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long orderId; // 주문 ID (Snowflake ID, JSON 문자열)
+    private OrderStatus status; // 주문 상태 (예: CONFIRMED, SHIPPED 등)
     private LocalDate orderDate; // 주문 날짜
     private LocalDate deliveryDate;  // 배송 완료 날짜
 }
@@ -1,5 +1,7 @@
 package com.doosan.msa.order.dto.responseDTO;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,7 +13,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class WishListResponseDTO {
-    private Long wishListId;  // 위시리스트 ID
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long wishListId;  // 위시리스트 ID (Snowflake ID, JSON 문자열)
     private String examSessionName; // 시험 세션 이름
     private String category; // 카테고리
 }
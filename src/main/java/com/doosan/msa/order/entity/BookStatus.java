@@ -1,9 +1,10 @@
 package com.doosan.msa.order.entity;
 
 public enum BookStatus {
+    HELD,        // 결제 대기 중 임시 점유
     BOOKED,      // 예약됨
+    SHIPPING,    // 배송 중
     CANCELED,    // 취소됨
     RETURNED,    // 반품됨
     DELIVERED    // 배송 완료됨
 }
-
@@ -1,15 +1,20 @@
 package com.doosan.msa.order.entity;
 import com.doosan.msa.exam.entity.ExamSession;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
 import javax.persistence.*;
 import java.time.LocalDate;
 @Entity
-@Table(name = "exam_book")
+@Table(name = "exam_book", indexes = {
+        // 배송 스케줄러의 상태/예약일별 주문 ID 키셋 조회용
+        @Index(name = "idx_exam_book_status_booking_date_order_id", columnList = "status, booking_date, order_id")
+})
 @Data
 public class ExamBook {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.doosan.msa.common.entity.SnowflakeIdentifierGenerator") // insert 배치를 위해 애플리케이션에서 ID 발급
     private Long id;  // 시험 교재 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,4 +37,8 @@ public class ExamBook {
 
     @Column(name = "delivery_date")
     private LocalDate deliveryDate; // 교재가 사용자에게 전달된 날짜, 배송 완료일을 저장
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version; // 낙관적 락 버전, 동시 상태 변경 시 나중 커밋이 덮어쓰지 않도록 함
 }
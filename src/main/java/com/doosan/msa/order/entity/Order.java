@@ -4,8 +4,10 @@ import com.doosan.msa.exam.entity.ExamSession;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import javax.persistence.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,14 +15,25 @@ import java.util.List;
  * 주문 정보
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = {
+        // 같은 사용자가 같은 시험 세션을 두 번 주문하지 못하도록 DB에서 보장
+        @UniqueConstraint(name = Order.USER_EXAM_SESSION_UNIQUE, columnNames = {"user_id", "exam_session_id"})
+}, indexes = {
+        // 사용자별 주문 내역 키셋 페이지 조회용
+        @Index(name = "idx_orders_user_id_id", columnList = "user_id, id"),
+        // 마감이 지난 결제 대기 주문 정리용
+        @Index(name = "idx_orders_status_hold_expires_at", columnList = "status, hold_expires_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
 
+    public static final String USER_EXAM_SESSION_UNIQUE = "uk_orders_user_exam_session";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.doosan.msa.common.entity.SnowflakeIdentifierGenerator") // insert 배치를 위해 애플리케이션에서 ID 발급
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,14 +43,22 @@ public class Order {
     @Column(nullable = false)
     private String userId; // 사용자 ID
 
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private String status; // 주문 상태  CONFIRMED, CANCELLED, SHIPPED, DELIVERED, RETURNED
+    private OrderStatus status; // 주문 상태  CONFIRMED, CANCELLED, SHIPPED, DELIVERED, RETURNED
 
     @Column(nullable = false)
     private LocalDate orderDate; // 주문 날짜
 
     private LocalDate deliveryDate; // 배송 완료 날짜
 
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt; // 결제 대기 점유 마감 시각 (결제 대기 주문만, 이 시각 이후에는 결제 확정 불가)
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version; // 낙관적 락 버전, 동시 상태 변경 시 나중 커밋이 덮어쓰지 않도록 함
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ExamBook> examBooks = new ArrayList<>(); // 주문에 연결된 여러 ExamBook (일대다 관계)
 }
@@ -0,0 +1,57 @@
+package com.doosan.msa.order.entity;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 아웃박스
+ * - 주문/배송 정보와 같은 트랜잭션에서 기록되고, OrderOutboxRelay가 읽어 외부로 발행
+ * - published_at이 null이면 아직 발행되지 않은 이벤트
+ * - 발행 실패가 attempts 상한에 닿으면 dead_lettered_at을 기록하고 릴레이 대상에서 제외 (수동 확인 후 재발행)
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        // 미발행, 미격리 이벤트를 ID 순서로 조회
+        @Index(name = "idx_order_outbox_published_at_id", columnList = "published_at, dead_lettered_at, id")
+})
+@Data
+@NoArgsConstructor
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.doosan.msa.common.entity.SnowflakeIdentifierGenerator") // insert 배치를 위해 애플리케이션에서 ID 발급
+    private Long id; // 이벤트 ID (발행 순서), 소비자는 이 값으로 중복 수신을 걸러냄
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId; // 이벤트가 발생한 주문 ID
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType; // 이벤트 종류 (ORDER_CONFIRMED, ORDER_CANCELLED, ORDER_SHIPPED 등)
+
+    @Lob
+    @Column(nullable = false)
+    private String payload; // 이벤트 내용 (JSON)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 이벤트 기록 시각
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt; // 발행 완료 시각
+
+    @Column(nullable = false)
+    private int attempts; // 발행 실패 횟수
+
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt; // 재시도 상한 초과로 격리된 시각 (null이면 정상)
+
+    public OrderOutboxEvent(Long orderId, String eventType, String payload) {
+        this.orderId = orderId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
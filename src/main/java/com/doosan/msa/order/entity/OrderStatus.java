@@ -0,0 +1,11 @@
+package com.doosan.msa.order.entity;
+
+public enum OrderStatus {
+    PENDING_PAYMENT, // 결제 대기 (좌석 임시 점유)
+    CONFIRMED,   // 주문 확정
+    CANCELLED,   // 주문 취소됨
+    SHIPPED,     // 배송 중
+    DELIVERED,   // 배송 완료됨
+    RETURNED,    // 반품됨
+    EXPIRED      // 결제 시간 초과로 점유 만료
+}
@@ -0,0 +1,104 @@
+package com.doosan.msa.order.entity;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문/배송 상태 전이 표
+ * - 전이마다 허용되는 주문 상태(from)와 결과 상태(to), 함께 바뀌는 교재 상태를 한 곳에 정의
+ * - 주문과 교재 상태는 항상 같은 전이로 함께 변경되며, 개별 메서드에서 상태를 직접 바꾸지 않음
+ */
+public enum OrderTransition {
+
+    // 결제 확정: 마감 전의 결제 대기 주문을 확정하고 교재를 예약 상태로
+    CONFIRM_PAYMENT(EnumSet.of(OrderStatus.PENDING_PAYMENT), OrderStatus.CONFIRMED, BookStatus.HELD, BookStatus.BOOKED),
+
+    // 점유 만료: 결제 시간 안에 확정되지 않은 주문을 만료, 좌석 반환
+    EXPIRE_HOLD(EnumSet.of(OrderStatus.PENDING_PAYMENT), OrderStatus.EXPIRED, BookStatus.HELD, BookStatus.CANCELED),
+
+    // 배송 시작: 확정된 주문의 예약 교재를 배송 중으로
+    START_SHIPMENT(EnumSet.of(OrderStatus.CONFIRMED), OrderStatus.SHIPPED, BookStatus.BOOKED, BookStatus.SHIPPING),
+
+    // 배송 완료: 배송 중인 주문을 배송 완료로
+    COMPLETE_SHIPMENT(EnumSet.of(OrderStatus.SHIPPED), OrderStatus.DELIVERED, BookStatus.SHIPPING, BookStatus.DELIVERED),
+
+    // 주문 취소: 배송 전인 주문만 취소, 좌석 반환
+    CANCEL(EnumSet.of(OrderStatus.CONFIRMED), OrderStatus.CANCELLED, BookStatus.BOOKED, BookStatus.CANCELED),
+
+    // 반품: 배송 완료된 주문만 (교재가 DELIVERED여야 하므로 배송 전 CONFIRMED 주문은 반품 대상이 아님)
+    RETURN(EnumSet.of(OrderStatus.DELIVERED), OrderStatus.RETURNED, BookStatus.DELIVERED, BookStatus.RETURNED);
+
+    // 주문 상태별로 도달 가능한 다음 상태
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT = new EnumMap<>(OrderStatus.class);
+
+    static {
+        for (OrderStatus status : OrderStatus.values()) {
+            NEXT.put(status, EnumSet.noneOf(OrderStatus.class));
+        }
+        for (OrderTransition transition : values()) {
+            for (OrderStatus from : transition.orderFrom) {
+                NEXT.get(from).add(transition.orderTo);
+            }
+        }
+    }
+
+    private final Set<OrderStatus> orderFrom;
+    private final OrderStatus orderTo;
+    private final BookStatus bookFrom;
+    private final BookStatus bookTo;
+
+    OrderTransition(Set<OrderStatus> orderFrom, OrderStatus orderTo, BookStatus bookFrom, BookStatus bookTo) {
+        this.orderFrom = orderFrom;
+        this.orderTo = orderTo;
+        this.bookFrom = bookFrom;
+        this.bookTo = bookTo;
+    }
+
+    public Set<OrderStatus> getOrderFrom() {
+        return orderFrom;
+    }
+
+    public OrderStatus getOrderTo() {
+        return orderTo;
+    }
+
+    public BookStatus getBookFrom() {
+        return bookFrom;
+    }
+
+    public BookStatus getBookTo() {
+        return bookTo;
+    }
+
+    // 취소되거나 점유가 만료된 주문은 좌석을 반환
+    public boolean releasesSeat() {
+        return this == CANCEL || this == EXPIRE_HOLD;
+    }
+
+    // 배송 시작 시 배송 예정일 기록
+    public boolean setsDeliveryDate() {
+        return this == START_SHIPMENT;
+    }
+
+    // 결제 확정은 점유 마감(hold_expires_at) 전에만 허용 (만료 타이머가 늦거나 누락되어도 DB에서 보장)
+    public boolean checksHoldDeadline() {
+        return this == CONFIRM_PAYMENT;
+    }
+
+    // 반품은 배송 완료 후 D+1 이내만 허용
+    public boolean checksReturnPeriod() {
+        return this == RETURN;
+    }
+
+    /**
+     * 주문 상태 전이 가능 여부
+     * @param from 현재 상태
+     * @param to 변경할 상태
+     * @return 전이 표에 정의된 전이면 true
+     */
+    public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return NEXT.get(from).contains(to);
+    }
+}
@@ -4,20 +4,25 @@ import com.doosan.msa.exam.entity.ExamSession;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import javax.persistence.*;
 
 /**
  * 위시 리스트
  */
 @Entity
-@Table(name = "wishlists")
+@Table(name = "wishlists", indexes = {
+        // 사용자별 위시리스트 키셋 페이지 조회용
+        @Index(name = "idx_wishlists_user_id_id", columnList = "user_id, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class WishList {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "snowflake")
+    @GenericGenerator(name = "snowflake", strategy = "com.doosan.msa.common.entity.SnowflakeIdentifierGenerator") // insert 배치를 위해 애플리케이션에서 ID 발급
     private Long id; // 위시리스트 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,9 +2,15 @@ package com.doosan.msa.order.repository;
 
 import com.doosan.msa.order.entity.BookStatus;
 import com.doosan.msa.order.entity.ExamBook;
+import com.doosan.msa.order.entity.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +23,37 @@ public interface ExamBookRepository extends JpaRepository<ExamBook, Long> {
     // 특정 주문 ID로 ExamBook을 조회
     Optional<ExamBook> findByOrderId(Long orderId);
 
-    // 상태와 예약 날짜로 ExamBook 목록 조회
-    List<ExamBook> findAllByStatusAndBookingDate(BookStatus bookStatus, LocalDate localDate);
-}
+    // 주문 상태 전이와 함께 교재 상태 일괄 전이 - 이번 전이로 orderStatus가 된 주문의 교재 중 from 상태인 것만 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExamBook b SET b.status = :to, b.version = b.version + 1 " +
+            "WHERE b.order.id IN :orderIds AND b.status = :from " +
+            "AND b.order.id IN (SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status = :orderStatus)")
+    int transitionBooks(@Param("orderIds") Collection<Long> orderIds, @Param("from") BookStatus from,
+                        @Param("to") BookStatus to, @Param("orderStatus") OrderStatus orderStatus);
+
+    // 교재 상태 일괄 전이 + 배송 예정일 기록
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ExamBook b SET b.status = :to, b.deliveryDate = :deliveryDate, b.version = b.version + 1 " +
+            "WHERE b.order.id IN :orderIds AND b.status = :from " +
+            "AND b.order.id IN (SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status = :orderStatus)")
+    int transitionBooksWithDeliveryDate(@Param("orderIds") Collection<Long> orderIds, @Param("from") BookStatus from,
+                                        @Param("to") BookStatus to, @Param("orderStatus") OrderStatus orderStatus,
+                                        @Param("deliveryDate") LocalDate deliveryDate);
+
+    // 상태와 예약 날짜로 (cursor, upper] 범위의 주문 ID를 키셋 페이지 단위로 조회 (배송 스케줄러)
+    @Query("SELECT b.order.id FROM ExamBook b " +
+            "WHERE b.status = :status AND b.bookingDate = :bookingDate AND b.order.id > :cursor AND b.order.id <= :upper " +
+            "ORDER BY b.order.id ASC")
+    List<Long> findOrderIdsByStatusAndBookingDate(@Param("status") BookStatus status, @Param("bookingDate") LocalDate bookingDate,
+                                                  @Param("cursor") Long cursor, @Param("upper") Long upper, Pageable pageable);
 
+    // 상태와 예약 날짜로 대상 주문 ID의 [최소, 최대] 조회 (배송 스케줄러 분할 실행 범위 계산용, 대상이 없으면 null)
+    @Query("SELECT MIN(b.order.id), MAX(b.order.id) FROM ExamBook b WHERE b.status = :status AND b.bookingDate = :bookingDate")
+    List<Object[]> findOrderIdBounds(@Param("status") BookStatus status, @Param("bookingDate") LocalDate bookingDate);
+
+    // 주어진 주문 중 orderStatus 상태인 주문의 교재 삭제 (만료된 점유 정리, 주문보다 먼저 삭제)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ExamBook b " +
+            "WHERE b.order.id IN (SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status = :orderStatus)")
+    int deleteByOrderIdInAndOrderStatus(@Param("orderIds") Collection<Long> orderIds, @Param("orderStatus") OrderStatus orderStatus);
+}
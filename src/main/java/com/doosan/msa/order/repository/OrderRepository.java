@@ -1,8 +1,27 @@
 package com.doosan.msa.order.repository;
+import com.doosan.msa.order.dto.responseDTO.OrderExportRowDTO;
+import com.doosan.msa.order.dto.responseDTO.OrderResponseDTO;
+import com.doosan.msa.order.entity.BookStatus;
 import com.doosan.msa.order.entity.Order;
+import com.doosan.msa.order.entity.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * OrderRepository 인터페이스
@@ -10,13 +29,94 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    // 특정 시험 세션 ID에 속한 모든 주문을 조회
-    List<Order> findByExamSessionId(Long examSessionId);
+    // 특정 시험 세션의 주문을 내보내기 행으로 스트리밍 (DTO로 조회하여 영속성 컨텍스트에 쌓이지 않음, 트랜잭션 안에서 소비)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT new com.doosan.msa.order.dto.responseDTO.OrderExportRowDTO(o.id, o.userId, o.status, o.orderDate, b.status, b.deliveryDate) " +
+            "FROM Order o LEFT JOIN ExamBook b ON b.order.id = o.id " +
+            "WHERE o.examSession.id = :examSessionId ORDER BY o.id ASC")
+    Stream<OrderExportRowDTO> streamExportRowsByExamSessionId(@Param("examSessionId") Long examSessionId);
 
-    // 특정 사용자 ID로 주문 목록을 조회
-    List<Order> findByUserId(String userId);
+    // 특정 사용자의 주문 내역을 DTO로 바로 조회 (엔티티 로딩 및 N+1 없음)
+    // 시험 세션별 주문은 (user_id, exam_session_id) 유니크 제약으로 1건뿐이므로 별도 중복 제거 없음
+    // 커서(id) 이후부터 id 오름차순으로 pageable 크기만큼 조회 - (user_id, id) 인덱스를 타므로 페이지 깊이와 무관하게 일정한 비용
+    @Query("SELECT new com.doosan.msa.order.dto.responseDTO.OrderResponseDTO(o.id, o.status, o.orderDate, o.deliveryDate) " +
+            "FROM Order o " +
+            "WHERE o.userId = :userId AND o.id > :cursor " +
+            "ORDER BY o.id ASC")
+    List<OrderResponseDTO> findOrderHistoryByUserId(@Param("userId") String userId, @Param("cursor") Long cursor, Pageable pageable);
 
     // 특정 사용자 ID와 시험 세션 ID의 주문 존재 여부 확인
     boolean existsByUserIdAndExamSessionId(String userId, Long examSessionId);
 
+    // 특정 시험 세션의 구매자 ID 목록 조회 (구매자 Bloom Filter 적재용)
+    @Query("SELECT o.userId FROM Order o WHERE o.examSession.id = :examSessionId")
+    List<String> findUserIdsByExamSessionId(@Param("examSessionId") Long examSessionId);
+
+    // 주문 상태 일괄 전이 - 현재 상태가 from 중 하나이고 교재가 bookFrom 상태인 주문만 변경, 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.version = o.version + 1 " +
+            "WHERE o.id IN :orderIds AND o.status IN :from " +
+            "AND o.id IN (SELECT b.order.id FROM ExamBook b WHERE b.order.id IN :orderIds AND b.status = :bookFrom)")
+    int transitionOrders(@Param("orderIds") Collection<Long> orderIds, @Param("from") Collection<OrderStatus> from,
+                         @Param("to") OrderStatus to, @Param("bookFrom") BookStatus bookFrom);
+
+    // 주문 상태 일괄 전이 - 반품 가능 기간(배송일 기준) 안의 주문만 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.version = o.version + 1 " +
+            "WHERE o.id IN :orderIds AND o.status IN :from " +
+            "AND o.id IN (SELECT b.order.id FROM ExamBook b WHERE b.order.id IN :orderIds AND b.status = :bookFrom " +
+            "AND b.deliveryDate >= :returnableFrom)")
+    int transitionOrdersWithinReturnPeriod(@Param("orderIds") Collection<Long> orderIds, @Param("from") Collection<OrderStatus> from,
+                                           @Param("to") OrderStatus to, @Param("bookFrom") BookStatus bookFrom,
+                                           @Param("returnableFrom") LocalDate returnableFrom);
+
+    // 전이 대상 주문 잠금 (좌석 반환처럼 실제 전이된 건수를 정확히 알아야 할 때 사용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status IN :from")
+    List<Long> lockIdsByStatusIn(@Param("orderIds") Collection<Long> orderIds, @Param("from") Collection<OrderStatus> from);
+
+    // 주문 상태 일괄 전이 - 점유 마감 전인 결제 대기 주문만 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.version = o.version + 1 " +
+            "WHERE o.id IN :orderIds AND o.status IN :from AND o.holdExpiresAt > :now " +
+            "AND o.id IN (SELECT b.order.id FROM ExamBook b WHERE b.order.id IN :orderIds AND b.status = :bookFrom)")
+    int transitionOrdersBeforeHoldDeadline(@Param("orderIds") Collection<Long> orderIds, @Param("from") Collection<OrderStatus> from,
+                                           @Param("to") OrderStatus to, @Param("bookFrom") BookStatus bookFrom,
+                                           @Param("now") LocalDateTime now);
+
+    // 점유 마감이 지난 결제 대기 주문 ID 조회 (마감 시각이 없는 이전 데이터 포함)
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND (o.holdExpiresAt IS NULL OR o.holdExpiresAt <= :cutoff)")
+    List<Long> findOverdueHoldIds(@Param("status") OrderStatus status, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 주어진 주문 중 특정 상태인 주문 ID 조회
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status);
+
+    // 주어진 주문 중 특정 상태인 주문 수를 시험 세션별로 집계 [시험 세션 ID, 건수]
+    @Query("SELECT o.examSession.id, COUNT(o) FROM Order o WHERE o.id IN :orderIds AND o.status = :status GROUP BY o.examSession.id")
+    List<Object[]> countByExamSessionIdForIds(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status);
+
+    // 특정 시험 세션에서 주어진 상태가 아닌 주문 수 조회 (좌석 재고 계산용)
+    long countByExamSessionIdAndStatusNotIn(Long examSessionId, Collection<OrderStatus> statuses);
+
+    // 정원이 있는 전체 시험 세션의 좌석 사용량을 스트리밍 [시험 세션 ID, 정원, 좌석을 차지한 주문 수] (재고 전체 대사용)
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 번에 올리지 않고 행 단위로 전달
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT s.id, s.capacity, COUNT(o.id) FROM ExamSession s " +
+            "LEFT JOIN Order o ON o.examSession.id = s.id AND o.status NOT IN :released " +
+            "WHERE s.capacity IS NOT NULL GROUP BY s.id, s.capacity")
+    Stream<Object[]> streamSeatUsage(@Param("released") Collection<OrderStatus> released);
+
+    // 주어진 시험 세션의 좌석 사용량 [시험 세션 ID, 정원, 좌석을 차지한 주문 수] (재고 증분 대사용)
+    @Query("SELECT s.id, s.capacity, COUNT(o.id) FROM ExamSession s " +
+            "LEFT JOIN Order o ON o.examSession.id = s.id AND o.status NOT IN :released " +
+            "WHERE s.id IN :examSessionIds AND s.capacity IS NOT NULL GROUP BY s.id, s.capacity")
+    List<Object[]> findSeatUsage(@Param("examSessionIds") Collection<Long> examSessionIds,
+                                 @Param("released") Collection<OrderStatus> released);
+
+    // 주어진 주문 중 특정 상태인 주문 삭제 (만료된 점유 정리 - 같은 사용자가 다시 점유할 수 있도록 유니크 제약 해제)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Order o WHERE o.id IN :orderIds AND o.status = :status")
+    int deleteByIdInAndStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status);
+
 }
@@ -2,9 +2,18 @@ package com.doosan.msa.order.repository;
 
 import com.doosan.msa.order.entity.WishList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * WishListRepository 인터페이스
@@ -12,6 +21,12 @@ import java.util.List;
 @Repository
 public interface WishListRepository extends JpaRepository<WishList, Long> {
 
-    // 유저아이디로 위시리스트 조회
-    List<WishList> findByUserId(String userId);
+    // 주어진 ID 중 이미 저장된 위시리스트 ID (write-behind 반영 재시도 시 중복 insert 방지)
+    @Query("SELECT w.id FROM WishList w WHERE w.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 전체 위시리스트를 [ID, 시험 세션 ID, 사용자 ID]로 한 행씩 조회 (Redis 위시리스트 재적재용, MySQL 스트리밍 커서)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT w.id, w.examSession.id, w.userId FROM WishList w")
+    Stream<Object[]> streamAllRows();
 }
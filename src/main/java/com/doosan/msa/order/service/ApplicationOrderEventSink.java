@@ -0,0 +1,23 @@
+package com.doosan.msa.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 내부 이벤트 버스로 주문 이벤트 발행 (기본값)
+ * - 배송/메일/분석 등 같은 애플리케이션의 @EventListener(OrderEvent)가 요청 경로 밖에서 수신
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class ApplicationOrderEventSink implements OrderEventSink {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(OrderEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
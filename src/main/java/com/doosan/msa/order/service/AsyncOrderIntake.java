@@ -0,0 +1,185 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.datasource.ReadYourWritesWindow;
+import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.order.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 주문 접수 파이프라인
+ * - 검증과 좌석 선점을 마친 주문을 제한된 크기의 메모리 큐에 넣고 즉시 접수표를 반환
+ * - 저장 워커가 큐에서 주문을 묶음으로 꺼내 한 트랜잭션에서 Order/ExamBook을 일괄 저장
+ * - 묶음 저장이 실패하면 건별로 다시 저장하여 실패한 주문만 좌석을 반환하고 FAILED 처리
+ */
+@Slf4j
+@Component
+public class AsyncOrderIntake {
+
+    private final BlockingQueue<PendingOrder> queue;
+    private final ExamSessionRepository examSessionRepository;
+    private final OrderWriter orderWriter;
+    private final OrderTicketStore orderTicketStore;
+    private final SeatInventory seatInventory;
+    private final BuyerBloomFilter buyerBloomFilter;
+    private final SoldOutSignal soldOutSignal;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+    private final int batchSize;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public AsyncOrderIntake(ExamSessionRepository examSessionRepository,
+                            OrderWriter orderWriter,
+                            OrderTicketStore orderTicketStore,
+                            SeatInventory seatInventory,
+                            BuyerBloomFilter buyerBloomFilter,
+                            SoldOutSignal soldOutSignal,
+                            ReadYourWritesWindow readYourWritesWindow,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${order.async.queue-capacity:10000}") int queueCapacity,
+                            @Value("${order.async.workers:2}") int workers,
+                            @Value("${order.async.batch-size:200}") int batchSize) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.examSessionRepository = examSessionRepository;
+        this.orderWriter = orderWriter;
+        this.orderTicketStore = orderTicketStore;
+        this.seatInventory = seatInventory;
+        this.buyerBloomFilter = buyerBloomFilter;
+        this.soldOutSignal = soldOutSignal;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.transactionTemplate = transactionTemplate;
+        this.workers = workers;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::drainLoop);
+        }
+        log.info("비동기 주문 저장 워커 시작: 워커 수={}, 묶음 크기={}", workers, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("비동기 주문 저장 워커 종료 대기 시간 초과, 남은 주문 수: {}", queue.size());
+        }
+    }
+
+    /**
+     * 주문 접수
+     * @param userId 사용자 ID
+     * @param examSessionId 시험 세션 ID (좌석 선점 완료 상태)
+     * @return 접수표 ID, 큐가 가득 차 접수하지 못했으면 null
+     */
+    public String submit(String userId, long examSessionId) {
+        String ticketId = UUID.randomUUID().toString();
+        orderTicketStore.pending(ticketId);
+        if (!queue.offer(new PendingOrder(ticketId, userId, examSessionId))) {
+            orderTicketStore.failed(ticketId, "주문 접수 대기열이 가득 찼습니다.");
+            return null;
+        }
+        return ticketId;
+    }
+
+    private void drainLoop() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 큐에 남은 주문은 모두 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("비동기 주문 저장 워커 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<PendingOrder> batch) {
+        try {
+            List<Order> saved = transactionTemplate.execute(status -> {
+                List<Order> orders = new ArrayList<>(batch.size());
+                for (PendingOrder pending : batch) {
+                    orders.add(orderWriter.newOrder(examSessionRepository.getReferenceById(pending.examSessionId), pending.userId));
+                }
+                return orderWriter.writeAll(orders);
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                PendingOrder pending = batch.get(i);
+                buyerBloomFilter.recordBuyer(pending.examSessionId, pending.userId);
+                readYourWritesWindow.markWrite(pending.userId);
+                orderTicketStore.completed(pending.ticketId, saved.get(i).getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("주문 묶음 저장 실패, 건별 저장으로 재시도: {}건, 원인={}", batch.size(), e.getMessage());
+            batch.forEach(this::persistOne);
+        }
+    }
+
+    private void persistOne(PendingOrder pending) {
+        try {
+            Order saved = transactionTemplate.execute(status ->
+                    orderWriter.write(examSessionRepository.getReferenceById(pending.examSessionId), pending.userId));
+            buyerBloomFilter.recordBuyer(pending.examSessionId, pending.userId);
+            readYourWritesWindow.markWrite(pending.userId);
+            orderTicketStore.completed(pending.ticketId, saved.getId());
+        } catch (RuntimeException e) {
+            log.error("비동기 주문 저장 실패: ticket={}, 원인={}", pending.ticketId, e.getMessage());
+            seatInventory.release(pending.examSessionId);
+            soldOutSignal.publishRestock(pending.examSessionId);
+            orderTicketStore.failed(pending.ticketId, OrderWriter.isDuplicateOrder(e)
+                    ? "이미 동일한 시험 세션에 대해 주문이 존재합니다."
+                    : "주문 저장에 실패했습니다.");
+        }
+    }
+
+    // 저장 대기 중인 주문
+    private static final class PendingOrder {
+        private final String ticketId;
+        private final String userId;
+        private final long examSessionId;
+
+        private PendingOrder(String ticketId, String userId, long examSessionId) {
+            this.ticketId = ticketId;
+            this.userId = userId;
+            this.examSessionId = examSessionId;
+        }
+    }
+}
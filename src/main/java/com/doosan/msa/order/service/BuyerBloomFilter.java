@@ -0,0 +1,89 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.BloomFilter;
+import com.doosan.msa.common.util.ConcurrentLongMap;
+import com.doosan.msa.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시험 세션별 구매자 Bloom Filter
+ * - 주문한 적 없는 사용자(대부분의 요청)는 중복 주문 SELECT 없이 통과시키고,
+ *   주문했을 가능성이 있는 사용자만 DB로 확인하여 반복 클릭을 좌석 선점 전에 거절
+ * - 최종 중복 방지는 orders 테이블의 (user_id, exam_session_id) 유니크 제약이 담당
+ * - 필터는 세션마다 수백 KB이므로 판매가 끝난 세션의 필터는 SaleGate가 제거하고, 보관 수가 상한에 닿으면 새 세션은 필터 없이 DB로 확인
+ */
+@Slf4j
+@Component
+public class BuyerBloomFilter {
+
+    private final ConcurrentLongMap<BloomFilter> filters = new ConcurrentLongMap<>();
+    private final OrderRepository orderRepository;
+    private final long expectedBuyers;
+    private final double falsePositiveRate;
+    private final int maxSessions;
+
+    public BuyerBloomFilter(OrderRepository orderRepository,
+                            @Value("${order.bloom.expected-buyers:100000}") long expectedBuyers,
+                            @Value("${order.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${order.bloom.max-sessions:256}") int maxSessions) {
+        this.orderRepository = orderRepository;
+        this.expectedBuyers = expectedBuyers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * 사용자가 세션을 주문했을 가능성이 있는지 확인
+     * @return false면 확실히 주문하지 않은 사용자 (필터를 보관하지 못한 세션은 항상 true)
+     */
+    public boolean mightHaveOrdered(long examSessionId, String userId) {
+        BloomFilter filter = filterOf(examSessionId);
+        return filter == null || filter.mightContain(userId);
+    }
+
+    /**
+     * 주문 완료된 구매자 등록
+     */
+    public void recordBuyer(long examSessionId, String userId) {
+        BloomFilter filter = filterOf(examSessionId);
+        if (filter != null) {
+            filter.put(userId);
+        }
+    }
+
+    /**
+     * 세션 필터 제거 (세션 삭제, 판매 종료 시)
+     */
+    public void evict(long examSessionId) {
+        filters.remove(examSessionId);
+    }
+
+    // 적재된 필터는 잠금 없이 조회, 처음 접근한 세션만 잠금 밖에서 구매자를 읽은 뒤 먼저 등록된 필터를 사용
+    // (구매자 조회가 오래 걸려도 다른 세션의 주문이 기다리지 않음), 보관 수가 상한이면 null
+    private BloomFilter filterOf(long examSessionId) {
+        BloomFilter filter = filters.get(examSessionId);
+        if (filter != null) {
+            return filter;
+        }
+        if (filters.size() >= maxSessions) {
+            log.debug("구매자 Bloom Filter 보관 수 상한, 필터 없이 확인: 시험 세션 ID={}", examSessionId);
+            return null;
+        }
+        BloomFilter loaded = load(examSessionId);
+        BloomFilter existing = filters.putIfAbsent(examSessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    // 세션 최초 접근 시 기존 구매자로 필터를 채움
+    private BloomFilter load(long examSessionId) {
+        BloomFilter filter = new BloomFilter(expectedBuyers, falsePositiveRate);
+        List<String> buyers = orderRepository.findUserIdsByExamSessionId(examSessionId);
+        buyers.forEach(filter::put);
+        log.info("구매자 Bloom Filter 적재: 시험 세션 ID={}, 구매자 수={}", examSessionId, buyers.size());
+        return filter;
+    }
+}
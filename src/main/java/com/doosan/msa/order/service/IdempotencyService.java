@@ -0,0 +1,153 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.exception.BusinessLogicException;
+import com.doosan.msa.common.util.RedisUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키(Idempotency-Key) 처리
+ * - 완료된 응답은 Redis에 TTL과 함께 저장하여 재시도 요청은 캐시 조회만으로 응답
+ * - 같은 키의 동시 요청은 인스턴스 안에서는 하나의 실행으로 합쳐지고(single-flight),
+ *   다른 인스턴스에서 실행 중이면 409로 거절
+ * - 요청 본문의 해시를 함께 저장하여, 같은 키를 다른 본문으로 재사용하면 422로 거절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS|"; // 실행 중: IN_PROGRESS|{본문 해시}
+    private static final String DONE_PREFIX = "DONE|"; // 완료: DONE|{본문 해시}|{응답 JSON}
+    private static final long IN_PROGRESS_TTL_SECONDS = 30; // 실행 중 표시 유지 시간 (인스턴스 장애 시 자동 해제)
+    private static final long RESPONSE_TTL_SECONDS = 24 * 60 * 60; // 완료 응답 보관 시간
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 멱등성 키 기준으로 요청을 한 번만 실행
+     * @param scope 키 범위 (작업 종류와 인증된 사용자)
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키
+     * @param requestBody 요청 본문 (같은 키의 재시도인지 확인하는 데 사용)
+     * @param action 실제 실행할 작업
+     * @return 작업 결과 (재시도라면 저장된 결과)
+     */
+    public Map<String, Object> execute(String scope, String idempotencyKey, Object requestBody,
+                                       Supplier<Map<String, Object>> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        String redisKey = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(requestBody);
+
+        // 본문이 같은 요청끼리만 합류 (다른 본문은 Redis 확인에서 거절됨)
+        String flightKey = redisKey + "#" + fingerprint;
+        CompletableFuture<Map<String, Object>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> running = inFlight.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            // 같은 인스턴스에서 실행 중인 요청의 결과를 그대로 사용
+            log.debug("멱등성 키 동시 요청 합류: {}", redisKey);
+            return join(running);
+        }
+
+        try {
+            Map<String, Object> result = executeOnce(redisKey, fingerprint, action);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private Map<String, Object> executeOnce(String redisKey, String fingerprint, Supplier<Map<String, Object>> action) {
+        if (!redisUtil.setDataIfAbsent(redisKey, IN_PROGRESS_PREFIX + fingerprint, IN_PROGRESS_TTL_SECONDS)) {
+            String stored = redisUtil.getData(redisKey);
+            if (stored != null && stored.startsWith(DONE_PREFIX)) {
+                String body = stored.substring(DONE_PREFIX.length());
+                requireSameRequest(redisKey, fingerprint, body);
+                log.info("멱등성 키 재시도 요청, 저장된 응답 반환: {}", redisKey);
+                return readResponse(body.substring(fingerprint.length() + 1));
+            }
+            if (stored != null && stored.startsWith(IN_PROGRESS_PREFIX)) {
+                requireSameRequest(redisKey, fingerprint, stored.substring(IN_PROGRESS_PREFIX.length()));
+            }
+            throw new BusinessLogicException(409, "IDEMPOTENCY_IN_PROGRESS", "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Map<String, Object> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않고 다시 시도할 수 있도록 키 해제
+            redisUtil.deleteData(redisKey);
+            throw e;
+        }
+        redisUtil.setDataExpire(redisKey, DONE_PREFIX + fingerprint + "|" + writeResponse(result), RESPONSE_TTL_SECONDS);
+        return result;
+    }
+
+    // 저장된 값이 같은 본문 해시로 시작하지 않으면 다른 요청에 키를 재사용한 것으로 보고 거절
+    private void requireSameRequest(String redisKey, String fingerprint, String stored) {
+        if (!stored.startsWith(fingerprint)) {
+            log.warn("멱등성 키가 다른 요청 본문으로 재사용됨: {}", redisKey);
+            throw new BusinessLogicException(422, "IDEMPOTENCY_KEY_REUSED", "같은 Idempotency-Key가 다른 요청에 사용되었습니다.");
+        }
+    }
+
+    // 요청 본문의 SHA-256 해시 (Base64, 구분자 '|'를 포함하지 않음)
+    private String fingerprint(Object requestBody) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(requestBody));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("멱등성 요청 본문 해시 계산 실패", e);
+        }
+    }
+
+    private Map<String, Object> join(CompletableFuture<Map<String, Object>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private String writeResponse(Map<String, Object> response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Object> readResponse(String json) {
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답 역직렬화 실패", e);
+        }
+    }
+}
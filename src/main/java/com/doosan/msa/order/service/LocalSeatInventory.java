@@ -0,0 +1,171 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.ConcurrentLongMap;
+import com.doosan.msa.common.util.StripedCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 인메모리 좌석 재고 엔진 (단일 인스턴스 배포용)
+ * - 세션별 남은 좌석을 스트라이프 카운터로 관리하여 Redis 왕복 없이 선점
+ * - 남은 좌석은 처음 접근할 때 orders 기준으로 적재하고(SeatStockLoader), 주기적인 재고 대사로 orders와 맞춤 (판매 수량을 따로 DB에 기록하지 않음)
+ * - 여러 인스턴스로 배포하면 인스턴스마다 재고를 따로 가지므로 반드시 redis 모드를 사용해야 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.inventory.mode", havingValue = "local")
+public class LocalSeatInventory implements SeatInventory {
+
+    private final ConcurrentLongMap<SessionStock> stocks = new ConcurrentLongMap<>();
+    private final SeatStockLoader seatStockLoader;
+    private final int stripes;
+
+    public LocalSeatInventory(SeatStockLoader seatStockLoader,
+                              @Value("${order.inventory.stripes:16}") int stripes) {
+        this.seatStockLoader = seatStockLoader;
+        this.stripes = stripes;
+    }
+
+    @Override
+    public long tryReserve(long examSessionId) {
+        SessionStock stock = stockOf(examSessionId);
+        if (stock.counter == null) {
+            return UNLIMITED;
+        }
+        if (!stock.counter.tryAcquire()) {
+            return SOLD_OUT;
+        }
+        stock.markActive();
+        return stock.counter.sum();
+    }
+
+    @Override
+    public long tryReserve(long examSessionId, int count) {
+        SessionStock stock = stockOf(examSessionId);
+        if (stock.counter == null) {
+            return UNLIMITED;
+        }
+        if (!stock.counter.tryAcquire(count)) {
+            return SOLD_OUT;
+        }
+        stock.markActive();
+        return stock.counter.sum();
+    }
+
+    @Override
+    public void release(long examSessionId) {
+        release(examSessionId, 1);
+    }
+
+    @Override
+    public void release(long examSessionId, int count) {
+        SessionStock stock = stocks.get(examSessionId);
+        if (stock == null || stock.counter == null) {
+            return;
+        }
+        stock.counter.add(count);
+        stock.markActive();
+    }
+
+    @Override
+    public void capacityChanged(long examSessionId, Integer oldCapacity, Integer newCapacity) {
+        SessionStock stock = stocks.get(examSessionId);
+        if (stock == null) {
+            return;
+        }
+        if (oldCapacity == null || newCapacity == null || stock.counter == null) {
+            evict(examSessionId);
+            return;
+        }
+        stock.counter.add(newCapacity - oldCapacity);
+        log.info("좌석 정원 변경 반영: 시험 세션 ID={}, 변경량={}", examSessionId, newCapacity - oldCapacity);
+    }
+
+    @Override
+    public void preload(long examSessionId) {
+        stockOf(examSessionId);
+    }
+
+    @Override
+    public void evict(long examSessionId) {
+        stocks.remove(examSessionId);
+    }
+
+    @Override
+    public long peek(long examSessionId) {
+        SessionStock stock = stocks.get(examSessionId);
+        if (stock == null) {
+            return NOT_LOADED;
+        }
+        return stock.counter == null ? UNLIMITED : stock.counter.sum();
+    }
+
+    @Override
+    public void adjust(long examSessionId, long delta) {
+        SessionStock stock = stocks.get(examSessionId);
+        if (stock == null || stock.counter == null) {
+            return;
+        }
+        stock.counter.add(delta);
+        stock.markActive();
+    }
+
+    @Override
+    public List<Long> drainActiveSessions() {
+        List<Long> active = new ArrayList<>();
+        for (long examSessionId : stocks.keys()) {
+            SessionStock stock = stocks.get(examSessionId);
+            if (stock != null && stock.active.getAndSet(false)) {
+                active.add(examSessionId);
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false; // 카운터가 인스턴스 메모리에 있으므로 대사도 인스턴스마다 실행
+    }
+
+    // 적재된 재고는 잠금 없이 조회, 처음 접근한 세션만 잠금 밖에서 DB를 읽은 뒤 먼저 등록된 값을 사용
+    private SessionStock stockOf(long examSessionId) {
+        SessionStock stock = stocks.get(examSessionId);
+        if (stock != null) {
+            return stock;
+        }
+        SessionStock loaded = load(examSessionId);
+        SessionStock existing = stocks.putIfAbsent(examSessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private SessionStock load(long examSessionId) {
+        long remaining = seatStockLoader.loadRemaining(examSessionId);
+        if (remaining == UNLIMITED) {
+            return new SessionStock(null);
+        }
+        return new SessionStock(new StripedCounter(remaining, stripes));
+    }
+
+    // 세션별 재고 상태, counter가 null이면 정원 제한 없음
+    private static final class SessionStock {
+        private final StripedCounter counter;
+        private final AtomicBoolean active = new AtomicBoolean(); // 마지막 재고 대사 이후 선점/반환 여부
+
+        private SessionStock(StripedCounter counter) {
+            this.counter = counter;
+        }
+
+        // 이미 표시된 경우 쓰기를 생략하여 캐시 라인 경합을 줄임
+        private void markActive() {
+            if (!active.get()) {
+                active.set(true);
+            }
+        }
+    }
+}
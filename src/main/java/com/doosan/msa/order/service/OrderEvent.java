@@ -0,0 +1,21 @@
+package com.doosan.msa.order.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 라이프사이클 이벤트 (아웃박스에서 읽어 발행하는 메시지)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class OrderEvent {
+    private final long eventId; // 이벤트 ID, 소비자는 이 값으로 중복 수신을 걸러냄
+    private final long orderId; // 주문 ID
+    private final String eventType; // 이벤트 종류
+    private final String payload; // 이벤트 내용 (JSON)
+    private final LocalDateTime occurredAt; // 이벤트 발생 시각
+}
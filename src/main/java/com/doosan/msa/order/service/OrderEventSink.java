@@ -0,0 +1,14 @@
+package com.doosan.msa.order.service;
+
+/**
+ * 주문 이벤트 발행 대상
+ * - order.outbox.sink 설정으로 구현을 선택 (memory: 애플리케이션 내부 이벤트, redis-stream: Redis Streams)
+ */
+public interface OrderEventSink {
+
+    /**
+     * 이벤트 발행, 실패 시 예외를 던지면 해당 이벤트부터 다음 주기에 다시 발행됨
+     * @param event 발행할 이벤트
+     */
+    void publish(OrderEvent event);
+}
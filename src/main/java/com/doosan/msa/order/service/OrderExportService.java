@@ -0,0 +1,141 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.order.dto.responseDTO.OrderExportRowDTO;
+import com.doosan.msa.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 시험 세션 주문 내보내기
+ * - 주문을 DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로 주문 수와 관계없이 메모리 사용량이 일정
+ * - 조회는 readOnly 트랜잭션 안에서 진행 (복제본이 설정되어 있으면 복제본에서 읽음)
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private static final String CSV_HEADER = "orderId,userId,status,orderDate,bookStatus,deliveryDate";
+
+    private final OrderRepository orderRepository;
+    private final ExamSessionRepository examSessionRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    public OrderExportService(OrderRepository orderRepository,
+                              ExamSessionRepository examSessionRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.examSessionRepository = examSessionRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 내보내기 대상 세션 확인 (응답을 쓰기 시작하기 전에 호출)
+     * @param examSessionId 시험 세션 ID
+     */
+    public void requireSession(Long examSessionId) {
+        if (!examSessionRepository.existsById(examSessionId)) {
+            throw new EntityNotFoundException("시험 세션을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 시험 세션의 주문을 출력 스트림에 기록
+     * @param examSessionId 시험 세션 ID
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 기록한 주문 수
+     */
+    public long export(Long examSessionId, Format format, OutputStream out) {
+        Long written = readOnlyTransaction.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<OrderExportRowDTO> rows = orderRepository.streamExportRowsByExamSessionId(examSessionId)) {
+                long count = 0;
+                if (format == Format.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+                Iterator<OrderExportRowDTO> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    OrderExportRowDTO row = iterator.next();
+                    writer.write(format == Format.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                    count++;
+                }
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                // 클라이언트 연결 종료 등
+                throw new UncheckedIOException("주문 내보내기 중 출력 오류가 발생했습니다.", e);
+            }
+        });
+        log.info("주문 내보내기 완료: 시험 세션 ID={}, 형식={}, {}건", examSessionId, format, written);
+        return written == null ? 0 : written;
+    }
+
+    private static String toCsv(OrderExportRowDTO row) {
+        return row.getOrderId() + "," +
+                csvField(row.getUserId()) + "," +
+                csvField(row.getStatus()) + "," +
+                csvField(row.getOrderDate()) + "," +
+                csvField(row.getBookStatus()) + "," +
+                csvField(row.getDeliveryDate());
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+    // 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 '를 붙임 (CSV 수식 삽입 방지)
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
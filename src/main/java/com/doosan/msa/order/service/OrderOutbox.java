@@ -0,0 +1,76 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.order.entity.Order;
+import com.doosan.msa.order.entity.OrderOutboxEvent;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.repository.OrderOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 이벤트 아웃박스 기록
+ * - 호출하는 쪽의 트랜잭션 안에서 실행되어 주문 변경과 이벤트가 함께 커밋/롤백됨
+ * - 실제 발행은 OrderOutboxRelay가 요청 경로 밖에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주문 생성 이벤트 기록
+     * @param orders 저장된 주문
+     */
+    public void appendCreated(List<Order> orders) {
+        List<OrderOutboxEvent> events = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("orderId", String.valueOf(order.getId()));
+            payload.put("userId", order.getUserId());
+            payload.put("examSessionId", order.getExamSession().getId());
+            payload.put("status", order.getStatus());
+            payload.put("orderDate", String.valueOf(order.getOrderDate()));
+            events.add(new OrderOutboxEvent(order.getId(), eventType(order.getStatus()), toJson(payload)));
+        }
+        orderOutboxRepository.saveAll(events);
+    }
+
+    /**
+     * 상태 전이 이벤트 기록
+     * @param orderIds 전이된 주문 ID
+     * @param status 전이 후 상태
+     */
+    public void appendTransitioned(Collection<Long> orderIds, OrderStatus status) {
+        List<OrderOutboxEvent> events = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("orderId", String.valueOf(orderId));
+            payload.put("status", status);
+            events.add(new OrderOutboxEvent(orderId, eventType(status), toJson(payload)));
+        }
+        orderOutboxRepository.saveAll(events);
+    }
+
+    // 이벤트 종류는 변경 후 주문 상태 기준 (ORDER_CONFIRMED, ORDER_CANCELLED, ...)
+    private static String eventType(OrderStatus status) {
+        return "ORDER_" + status.name();
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+}
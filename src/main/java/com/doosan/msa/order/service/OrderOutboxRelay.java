@@ -0,0 +1,113 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.order.entity.OrderOutboxEvent;
+import com.doosan.msa.order.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 이벤트 아웃박스 릴레이
+ * - 미발행 이벤트를 배치 단위로 잠가 읽고(SKIP LOCKED) 발행 대상으로 전달한 뒤 발행 완료로 표시
+ * - 여러 인스턴스가 동시에 실행되어도 같은 배치를 나눠 갖지 않음
+ * - 최소 한 번 전달 (발행 후 표시 전에 장애가 나면 재발행될 수 있음)
+ * - 전체 순서는 보장하지 않음: 이벤트 ID는 노드별로 발급되고 커밋 순서와 다를 수 있어서,
+ *   작은 ID가 늦게 커밋되면 SKIP LOCKED 조회에서 큰 ID보다 나중에 발행됨 (소비자는 eventId로 중복만 거름)
+ * - 발행에 실패하면 그 이벤트의 실패 횟수를 기록하고 나머지는 다음 주기로 미룸 (발행 대상 장애 시 재시도 폭주 방지)
+ * - 실패 횟수가 max-attempts에 닿은 이벤트는 격리(dead letter)하여 뒤 이벤트를 계속 막지 않음
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OrderEventSink orderEventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long retentionHours;
+    private final int maxAttempts;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OrderEventSink orderEventSink,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${order.outbox.batch-size:500}") int batchSize,
+                            @Value("${order.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                            @Value("${order.outbox.retention-hours:24}") long retentionHours,
+                            @Value("${order.outbox.max-attempts:10}") int maxAttempts) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.orderEventSink = orderEventSink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retentionHours = retentionHours;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 미발행 이벤트 발행, 배치가 가득 차 있으면 최대 max-batches-per-run번까지 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:500}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer published = transactionTemplate.execute(status -> relayBatch());
+            if (published == null || published < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    @Scheduled(cron = "0 0 * * * ?") // 매시 정각
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+                orderOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        log.info("발행 완료 주문 이벤트 정리: {}건", deleted);
+    }
+
+    private int relayBatch() {
+        List<OrderOutboxEvent> events = orderOutboxRepository.lockUnpublished(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (OrderOutboxEvent event : events) {
+            try {
+                orderEventSink.publish(new OrderEvent(event.getId(), event.getOrderId(), event.getEventType(),
+                        event.getPayload(), event.getCreatedAt()));
+            } catch (RuntimeException e) {
+                recordFailure(event, e);
+                break;
+            }
+            publishedIds.add(event.getId());
+        }
+
+        if (!publishedIds.isEmpty()) {
+            orderOutboxRepository.markPublished(publishedIds, LocalDateTime.now());
+            log.debug("주문 이벤트 발행: {}건", publishedIds.size());
+        }
+        return publishedIds.size() == events.size() ? publishedIds.size() : 0;
+    }
+
+    // 실패 횟수 기록, 상한에 닿으면 격리 (변경은 배치 트랜잭션 커밋 시 반영)
+    private void recordFailure(OrderOutboxEvent event, RuntimeException e) {
+        event.setAttempts(event.getAttempts() + 1);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setDeadLetteredAt(LocalDateTime.now());
+            log.error("주문 이벤트 발행 재시도 초과, 격리: 이벤트 ID={}, 주문 ID={}, 시도={}회, 원인={}",
+                    event.getId(), event.getOrderId(), event.getAttempts(), e.getMessage());
+            return;
+        }
+        log.warn("주문 이벤트 발행 실패: 이벤트 ID={}, 시도={}회, 원인={}", event.getId(), event.getAttempts(), e.getMessage());
+    }
+}
@@ -1,34 +1,54 @@
 package com.doosan.msa.order.service;
 
+import com.doosan.msa.common.datasource.ReadYourWritesWindow;
 import com.doosan.msa.common.exception.BusinessLogicException;
 import com.doosan.msa.common.exception.TokenInvalidException;
+import com.doosan.msa.common.filter.AdmissionTokenFilter;
 import com.doosan.msa.common.jwt.TokenProvider;
 import com.doosan.msa.common.shared.Authority;
 import com.doosan.msa.common.util.AESUtil;
 import com.doosan.msa.exam.entity.ExamSession;
 import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.exam.service.ExamSessionCache;
+import com.doosan.msa.order.dto.requestDTO.BatchOrderRequestDTO;
 import com.doosan.msa.order.dto.requestDTO.OrderRequestDTO;
+import com.doosan.msa.order.dto.requestDTO.OrderTransitionRequestDTO;
 import com.doosan.msa.order.dto.requestDTO.WishListRequestDTO;
+import com.doosan.msa.order.dto.responseDTO.BatchOrderLineResultDTO;
+import com.doosan.msa.order.dto.responseDTO.CursorPageDTO;
 import com.doosan.msa.order.dto.responseDTO.OrderResponseDTO;
 import com.doosan.msa.order.dto.responseDTO.WishListResponseDTO;
 import com.doosan.msa.order.entity.BookStatus;
 import com.doosan.msa.order.entity.ExamBook;
 import com.doosan.msa.order.entity.Order;
-import com.doosan.msa.order.entity.WishList;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.entity.OrderTransition;
 import com.doosan.msa.order.repository.ExamBookRepository;
 import com.doosan.msa.order.repository.OrderRepository;
-import com.doosan.msa.order.repository.WishListRepository;
 import com.doosan.msa.user.entity.User;
 import com.doosan.msa.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import javax.persistence.EntityNotFoundException;
 import javax.servlet.http.HttpServletRequest;
-import java.time.LocalDate;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -39,230 +59,610 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderService {
 
+    private static final String DUPLICATE_ORDER_MESSAGE = "이미 동일한 시험 세션에 대해 주문이 존재합니다.";
+    private static final int MAX_PAGE_SIZE = 100; // 주문 내역/위시리스트 한 페이지 최대 건수
+    private static final int MAX_BATCH_LINES = 500; // 일괄 주문 한 번에 처리하는 최대 항목 수
+
     private final OrderRepository orderRepository;
     private final ExamSessionRepository examSessionRepository;
     private final ExamBookRepository examBookRepository;
     private final TokenProvider tokenProvider;
     private final UserRepository userRepository; // 사용자 레포지토리
-    private final WishListRepository wishListRepository; // 위시리스트 레포지토리
+    private final WishListStore wishListStore; // Redis 위시리스트 저장소 (테이블에는 write-behind로 반영)
+    private final SeatInventory seatInventory; // 좌석 재고 엔진
+    private final TransactionTemplate transactionTemplate; // 좌석 선점 이후에만 트랜잭션을 열기 위해 사용
+    private final OrderWriter orderWriter; // 주문/배송 정보 저장
+    private final AsyncOrderIntake asyncOrderIntake; // 비동기 주문 접수 큐
+    private final OrderTicketStore orderTicketStore; // 비동기 주문 접수표 저장소
+    private final BuyerBloomFilter buyerBloomFilter; // 세션별 구매자 Bloom Filter
+    private final ExamSessionCache examSessionCache; // 주문 경로용 시험 세션 캐시
+    private final SaleGate saleGate; // 판매 시작/종료 시각 게이트
+    private final SoldOutSignal soldOutSignal; // 클러스터 매진 신호
+    private final OrderStateMachine orderStateMachine; // 주문/배송 상태 전이
+    private final SeatHoldReaper seatHoldReaper; // 결제 대기 좌석 점유 만료 처리
+    private final ReadYourWritesWindow readYourWritesWindow; // 주문 직후 조회는 원본 DB로
+    private final WaitingRoomService waitingRoomService; // 대기열 입장 토큰 소비
+    private final PaymentVerifier paymentVerifier; // 결제 확정 전 결제 완료 확인
 
     // 주문하기
-    @Transactional
     public Map<String, Object> createOrder(HttpServletRequest request, OrderRequestDTO orderRequestDTO) {
+        log.info("주문하기 시작: {}", orderRequestDTO);
+        return reserveAndPlace(request, orderRequestDTO, false);
+    }
+
+    // 좌석 점유하기 - 결제 대기 주문을 만들고 결제 시간 안에 확정되지 않으면 좌석 반환
+    public Map<String, Object> createHold(HttpServletRequest request, OrderRequestDTO orderRequestDTO) {
+        log.info("좌석 점유 시작: {}", orderRequestDTO);
+        return reserveAndPlace(request, orderRequestDTO, true);
+    }
+
+    // 결제 확정 - 주문자 본인의 마감 전 결제 대기 주문만, 결제가 확인된 경우에만 확정
+    public void confirmPayment(HttpServletRequest request, Long orderId, String paymentReference) {
+        log.info("결제 확정 요청: 주문 ID: {}", orderId);
+        String subject = requireSubject(request);
+
+        // 만료된 점유는 이미 삭제되어 있음
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessLogicException(409, "HOLD_EXPIRED", "결제 시간이 지나 좌석 점유가 만료되었습니다."));
+        if (!order.getUserId().equals(subject)) {
+            throw new BusinessLogicException(403, "ORDER_FORBIDDEN", "본인의 주문만 결제할 수 있습니다.");
+        }
+        requirePendingHold(order);
+        if (!paymentVerifier.verify(order, paymentReference)) {
+            throw new BusinessLogicException(402, "PAYMENT_NOT_VERIFIED", "결제 내역을 확인할 수 없습니다.");
+        }
+
+        if (orderStateMachine.applyAll(OrderTransition.CONFIRM_PAYMENT, List.of(orderId)) == 0) {
+            // 확인 이후 만료되었거나 다른 요청이 먼저 확정한 경우
+            requirePendingHold(orderRepository.findById(orderId)
+                    .orElseThrow(() -> new BusinessLogicException(409, "HOLD_EXPIRED", "결제 시간이 지나 좌석 점유가 만료되었습니다.")));
+            throw new RuntimeException("결제를 확정 할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        seatHoldReaper.unregister(orderId);
+        log.info("결제 확정 완료: 주문 ID: {}, 결제 참조 번호: {}", orderId, paymentReference);
+    }
+
+    // 마감 전의 결제 대기 주문인지 확인
+    private void requirePendingHold(Order order) {
+        if (order.getStatus() != OrderStatus.PENDING_PAYMENT) {
+            throw new BusinessLogicException(409, "HOLD_NOT_PENDING", "결제 대기 중인 주문이 아닙니다.");
+        }
+        if (order.getHoldExpiresAt() == null || !order.getHoldExpiresAt().isAfter(LocalDateTime.now())) {
+            // 마감이 지났지만 아직 만료 처리 전인 점유
+            throw new BusinessLogicException(409, "HOLD_EXPIRED", "결제 시간이 지나 좌석 점유가 만료되었습니다.");
+        }
+    }
+
+    // 검증 → 좌석 선점 → 주문 저장 (실패 시 좌석 반환)
+    private Map<String, Object> reserveAndPlace(HttpServletRequest request, OrderRequestDTO orderRequestDTO, boolean hold) {
+        // 매진 세션은 SoldOutFilter에서 JWT 검증 전에 거절되고, 필터 통과 후 매진된 경우를 위해 한 번 더 확인
+        long examSessionId = requireExamSessionId(orderRequestDTO);
+        rejectSoldOut(examSessionId);
+        String token = resolveToken(request);
+
+        // 판매 시간 외 요청은 DB 접근 없이 거절
+        saleGate.check(examSessionId);
+
+        // 반복 클릭은 좌석 선점 전에 거절
+        rejectKnownBuyer(orderRequestDTO.getUserId(), examSessionId);
+
+        // 대기열 입장 토큰 소비 - 주문이 실패하면 되돌림
+        String admissionToken = consumeAdmission(request, token);
+
+        // 좌석 선점 - 매진이면 트랜잭션을 열지 않고 바로 거절
         try {
-            log.info("주문하기 시작: {}", orderRequestDTO);
+            reserveSeat(examSessionId);
+        } catch (RuntimeException e) {
+            restoreAdmission(admissionToken);
+            throw e;
+        }
 
-            // 토큰 유효성 검증
-            String authorizationHeader = request.getHeader("Authorization");
-            if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-                throw new TokenInvalidException("유효하지 않은 Authorization 헤더 형식입니다.");
+        try {
+            Map<String, Object> result = transactionTemplate.execute(status -> placeOrder(token, orderRequestDTO, hold));
+            buyerBloomFilter.recordBuyer(examSessionId, orderRequestDTO.getUserId());
+            readYourWritesWindow.markWrite(orderRequestDTO.getUserId());
+            return result;
+        } catch (RuntimeException e) {
+            // 주문 저장 실패 시 선점한 좌석과 입장 토큰 반환
+            releaseSeat(examSessionId);
+            restoreAdmission(admissionToken);
+            if (OrderWriter.isDuplicateOrder(e)) {
+                buyerBloomFilter.recordBuyer(examSessionId, orderRequestDTO.getUserId());
+                log.info("중복 주문 거절 (userId: {}, examSessionId: {})", orderRequestDTO.getUserId(), examSessionId);
+                throw new IllegalArgumentException(DUPLICATE_ORDER_MESSAGE);
             }
+            log.error("주문 생성 중 오류 발생: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
 
-            String token = authorizationHeader.substring(7);
-            if (!tokenProvider.validateToken(token)) {
-                throw new TokenInvalidException("유효하지 않은 토큰입니다.");
+    // 일괄 주문 (기관 구매) - 인증은 한 번만, 좌석은 세션 단위로 전부 선점하거나 전혀 선점하지 않음
+    public Map<String, Object> createBatchOrder(HttpServletRequest request, BatchOrderRequestDTO batchOrderRequestDTO) {
+        List<OrderRequestDTO> lines = batchOrderRequestDTO.getLines();
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("주문 항목이 필요합니다.");
+        }
+        if (lines.size() > MAX_BATCH_LINES) {
+            throw new IllegalArgumentException("일괄 주문은 최대 " + MAX_BATCH_LINES + "건까지 가능합니다.");
+        }
+        log.info("일괄 주문 시작: {}건", lines.size());
+
+        String token = resolveToken(request);
+        loadBuyer(token);
+        String admissionToken = consumeAdmission(request, token);
+
+        // 세션별로 항목을 묶음 (요청 순서 유지), 잘못된 항목, 가입하지 않은 사용자, 요청 안의 중복은 바로 실패 처리
+        BatchOrderLineResultDTO[] results = new BatchOrderLineResultDTO[lines.size()];
+        Set<String> knownUsers = findKnownUsers(lines);
+        Map<Long, List<Integer>> linesBySession = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            OrderRequestDTO line = lines.get(i);
+            if (line == null || line.getUserId() == null || line.getExamSessionId() == null) {
+                results[i] = failedLine(i, line, "INVALID_LINE", "사용자 ID와 시험 세션 ID가 필요합니다.");
+            } else if (!knownUsers.contains(line.getUserId())) {
+                results[i] = failedLine(i, line, "USER_NOT_FOUND", "사용자를 찾을 수 없습니다.");
+            } else if (!seen.add(line.getExamSessionId() + ":" + line.getUserId())) {
+                results[i] = failedLine(i, line, "DUPLICATE_ORDER", DUPLICATE_ORDER_MESSAGE);
+            } else {
+                linesBySession.computeIfAbsent(line.getExamSessionId(), k -> new ArrayList<>()).add(i);
             }
+        }
 
-            // JWT에서 이메일 추출 및 암호화
-            String email = tokenProvider.getUserIdFromToken(token);
-            String encryptedEmail = AESUtil.encrypt(email);
+        for (Map.Entry<Long, List<Integer>> entry : linesBySession.entrySet()) {
+            placeSessionLines(entry.getKey(), entry.getValue(), lines, results);
+        }
 
-            // 사용자 조회
-            User user = userRepository.findByEmail(encryptedEmail)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        List<BatchOrderLineResultDTO> resultList = Arrays.asList(results);
+        long created = resultList.stream().filter(BatchOrderLineResultDTO::isSuccess).count();
+        if (created == 0) {
+            restoreAdmission(admissionToken);
+        }
+        log.info("일괄 주문 완료: 요청 {}건, 생성 {}건", lines.size(), created);
 
-            // 권한 확인
-            if (user.getAuthority().equals(Authority.ROLE_INSTRUCTOR)) {
-                throw new TokenInvalidException("강사는 자신의 강의를 주문 할 수 없습니다.");
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("created", created);
+        response.put("failed", lines.size() - created);
+        response.put("results", resultList);
+        return response;
+    }
+
+    // 요청 항목의 사용자 ID(이메일) 중 가입된 사용자만 반환 - 이메일은 암호화되어 저장되므로 암호화한 값으로 한 번에 조회
+    private Set<String> findKnownUsers(List<OrderRequestDTO> lines) {
+        Map<String, String> userIdByEmail = new HashMap<>();
+        for (OrderRequestDTO line : lines) {
+            if (line != null && line.getUserId() != null) {
+                userIdByEmail.putIfAbsent(AESUtil.encrypt(line.getUserId()), line.getUserId());
             }
+        }
+        if (userIdByEmail.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> known = new HashSet<>();
+        for (String email : userRepository.findEmailsByEmailIn(userIdByEmail.keySet())) {
+            known.add(userIdByEmail.get(email));
+        }
+        return known;
+    }
 
-            //시험 세션 확인
-            ExamSession session = examSessionRepository.findById(orderRequestDTO.getExamSessionId())
-                    .orElseThrow(() -> new EntityNotFoundException("시험 세션을 찾을 수 없습니다."));
-            log.debug("시험 세션 확인 완료: {}", session);
+    // 한 세션의 항목을 한 번에 선점하고 한 트랜잭션에서 배치 저장 (중복 주문이 섞여 있으면 건별 저장, 그 밖의 실패는 이 세션의 항목 전체 실패, 좌석 반환)
+    private void placeSessionLines(long examSessionId, List<Integer> lineIndexes, List<OrderRequestDTO> lines,
+                                   BatchOrderLineResultDTO[] results) {
+        try {
+            rejectSoldOut(examSessionId);
+            saleGate.check(examSessionId);
+            requireExamSession(examSessionId);
+        } catch (BusinessLogicException e) {
+            failLines(lineIndexes, lines, results, e.getCode(), e.getMessage());
+            return;
+        } catch (EntityNotFoundException e) {
+            failLines(lineIndexes, lines, results, "EXAM_SESSION_NOT_FOUND", e.getMessage());
+            return;
+        }
 
-            // 중복 주문 체크
-            boolean exists = orderRepository.existsByUserIdAndExamSessionId(orderRequestDTO.getUserId(), orderRequestDTO.getExamSessionId());
-            log.info("중복 주문 체크 결과 (userId: {}, examSessionId: {}): {}", orderRequestDTO.getUserId(), orderRequestDTO.getExamSessionId(), exists);
-            if (exists) {
-                throw new IllegalArgumentException("이미 동일한 시험 세션에 대해 주문이 존재합니다.");
+        // 이미 주문한 사용자 제외
+        List<Integer> accepted = new ArrayList<>(lineIndexes.size());
+        for (int i : lineIndexes) {
+            try {
+                rejectKnownBuyer(lines.get(i).getUserId(), examSessionId);
+                accepted.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = failedLine(i, lines.get(i), "DUPLICATE_ORDER", e.getMessage());
             }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
 
-            // 주문 생성
-            Order order = new Order();
-            order.setExamSession(session);
-            order.setUserId(orderRequestDTO.getUserId());
-            order.setStatus("CONFIRMED");
-            order.setOrderDate(LocalDate.now());
-            Order savedOrder = orderRepository.save(order);
-            log.info("주문 생성 완료: 주문 ID: {}, 사용자 ID: {}, 시험 세션 ID: {}", savedOrder.getId(), savedOrder.getUserId(), session.getId());
-
-            // 배송 정보 생성
-            ExamBook examBook = new ExamBook();
-            examBook.setOrder(savedOrder);
-            examBook.setExamSession(session);
-            examBook.setUserId(orderRequestDTO.getUserId());
-            examBook.setStatus(BookStatus.BOOKED);
-            examBook.setBookingDate(LocalDate.now());
-            examBook.setDeliveryDate(LocalDate.now().plusDays(2)); // 주문 생성 날짜 + 2일로 설정
-            examBookRepository.save(examBook);
-
-            log.info("배송 정보 생성 완료: ExamBook ID: {}, 주문 ID: {}", examBook.getId(), savedOrder.getId());
-            return Map.of("orderId", savedOrder.getId());
-        } catch (Exception e) {
-            log.error("주문 생성 중 오류 발생: {}", e.getMessage(), e);
+        long remaining = seatInventory.tryReserve(examSessionId, accepted.size());
+        if (remaining == SeatInventory.SOLD_OUT) {
+            failLines(accepted, lines, results, "SOLD_OUT", "남은 좌석이 주문 수량보다 적습니다.");
+            return;
+        }
+        if (remaining == 0) {
+            soldOutSignal.publishSoldOut(examSessionId);
+        }
+
+        try {
+            List<Order> saved = transactionTemplate.execute(status -> {
+                ExamSession session = examSessionRepository.getReferenceById(examSessionId);
+                List<Order> orders = new ArrayList<>(accepted.size());
+                for (int i : accepted) {
+                    orders.add(orderWriter.newOrder(session, lines.get(i).getUserId()));
+                }
+                return orderWriter.writeAll(orders);
+            });
+            for (int n = 0; n < accepted.size(); n++) {
+                int i = accepted.get(n);
+                String userId = lines.get(i).getUserId();
+                buyerBloomFilter.recordBuyer(examSessionId, userId);
+                readYourWritesWindow.markWrite(userId);
+                results[i] = new BatchOrderLineResultDTO(i, userId, examSessionId, true, saved.get(n).getId(), "ORDER_CREATED", null);
+            }
+        } catch (RuntimeException e) {
+            if (OrderWriter.isDuplicateOrder(e)) {
+                // 이미 주문한 사용자가 섞여 있으면 한 건 때문에 묶음 전체가 실패하지 않도록 건별로 다시 저장 (선점한 좌석은 유지)
+                log.warn("일괄 주문 세션 저장 중 중복 주문, 건별 저장으로 재시도: 시험 세션 ID={}, {}건", examSessionId, accepted.size());
+                for (int i : accepted) {
+                    placeBatchLine(examSessionId, i, lines.get(i), results);
+                }
+                return;
+            }
+            seatInventory.release(examSessionId, accepted.size());
+            soldOutSignal.publishRestock(examSessionId);
+            log.warn("일괄 주문 세션 저장 실패: 시험 세션 ID={}, {}건, 원인={}", examSessionId, accepted.size(), e.getMessage());
+            failLines(accepted, lines, results, "ORDER_FAILED", "주문 저장에 실패했습니다.");
+        }
+    }
+
+    // 일괄 주문 항목 1건 저장 (좌석은 이미 선점된 상태, 실패하면 1석 반환)
+    private void placeBatchLine(long examSessionId, int index, OrderRequestDTO line, BatchOrderLineResultDTO[] results) {
+        String userId = line.getUserId();
+        try {
+            Order saved = transactionTemplate.execute(status ->
+                    orderWriter.write(examSessionRepository.getReferenceById(examSessionId), userId));
+            buyerBloomFilter.recordBuyer(examSessionId, userId);
+            readYourWritesWindow.markWrite(userId);
+            results[index] = new BatchOrderLineResultDTO(index, userId, examSessionId, true, saved.getId(), "ORDER_CREATED", null);
+        } catch (RuntimeException e) {
+            seatInventory.release(examSessionId);
+            soldOutSignal.publishRestock(examSessionId);
+            boolean duplicate = OrderWriter.isDuplicateOrder(e);
+            if (duplicate) {
+                buyerBloomFilter.recordBuyer(examSessionId, userId); // 다음 요청은 필터에서 바로 거절
+            }
+            results[index] = failedLine(index, line, duplicate ? "DUPLICATE_ORDER" : "ORDER_FAILED",
+                    duplicate ? DUPLICATE_ORDER_MESSAGE : "주문 저장에 실패했습니다.");
+        }
+    }
+
+    private void failLines(List<Integer> lineIndexes, List<OrderRequestDTO> lines, BatchOrderLineResultDTO[] results,
+                           String code, String message) {
+        for (int i : lineIndexes) {
+            results[i] = failedLine(i, lines.get(i), code, message);
+        }
+    }
+
+    private BatchOrderLineResultDTO failedLine(int index, OrderRequestDTO line, String code, String message) {
+        return new BatchOrderLineResultDTO(index, line == null ? null : line.getUserId(),
+                line == null ? null : line.getExamSessionId(), false, null, code, message);
+    }
+
+    // 비동기 주문 접수 - 검증과 좌석 선점만 하고 저장은 워커에 맡김
+    public Map<String, Object> submitOrder(HttpServletRequest request, OrderRequestDTO orderRequestDTO) {
+        log.info("비동기 주문 접수 시작: {}", orderRequestDTO);
+
+        long examSessionId = requireExamSessionId(orderRequestDTO);
+        rejectSoldOut(examSessionId);
+        String token = resolveToken(request);
+
+        saleGate.check(examSessionId);
+        rejectKnownBuyer(orderRequestDTO.getUserId(), examSessionId);
+        String admissionToken = consumeAdmission(request, token);
+        try {
+            reserveSeat(examSessionId);
+        } catch (RuntimeException e) {
+            restoreAdmission(admissionToken);
+            throw e;
+        }
+
+        try {
+            loadBuyer(token);
+            requireExamSession(examSessionId);
+
+            String ticketId = asyncOrderIntake.submit(orderRequestDTO.getUserId(), examSessionId);
+            if (ticketId == null) {
+                throw new BusinessLogicException(503, "ORDER_QUEUE_FULL", "주문이 많아 잠시 후 다시 시도해주세요.");
+            }
+            log.info("비동기 주문 접수 완료: ticketId={}", ticketId);
+            return Map.of("ticketId", ticketId);
+        } catch (RuntimeException e) {
+            releaseSeat(examSessionId);
+            restoreAdmission(admissionToken);
+            log.error("비동기 주문 접수 중 오류 발생: {}", e.getMessage());
             throw e;
         }
     }
 
-    // 배송 시작
-    @Transactional
-    public void startShipment(Long orderId) {
-        ExamBook examBook = examBookRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new EntityNotFoundException("Exam book을 찾을 수 없습니다."));
+    // 비동기 주문 접수표 조회
+    public Map<String, Object> getOrderTicket(String ticketId) {
+        Map<String, Object> ticket = orderTicketStore.find(ticketId);
+        if (ticket == null) {
+            throw new EntityNotFoundException("주문 접수표를 찾을 수 없습니다.");
+        }
+        return ticket;
+    }
 
-        if (examBook.getStatus() != BookStatus.BOOKED) {
-            throw new BusinessLogicException(400, "INVALID_SHIPMENT_STATUS", "배송이 준비 상태가 아닙니다.");
+    // 좌석 선점 이후 주문/배송 정보 저장 (트랜잭션 내부)
+    private Map<String, Object> placeOrder(String token, OrderRequestDTO orderRequestDTO, boolean hold) {
+        loadBuyer(token);
+
+        //시험 세션 확인 - 캐시로 존재 여부만 확인하고 연관관계는 프록시로 연결 (SELECT 없음)
+        long examSessionId = orderRequestDTO.getExamSessionId();
+        requireExamSession(examSessionId);
+        ExamSession session = examSessionRepository.getReferenceById(examSessionId);
+
+        // 주문 및 배송 정보 생성 (중복 주문은 유니크 제약 위반으로 감지)
+        if (!hold) {
+            Order savedOrder = orderWriter.write(session, orderRequestDTO.getUserId());
+            return Map.of("orderId", String.valueOf(savedOrder.getId()));
         }
 
-        examBook.setStatus(BookStatus.DELIVERED);
-        examBook.setDeliveryDate(LocalDate.now().plusDays(2)); // 배송일
-        examBookRepository.save(examBook);
+        // 결제 대기 주문 - 마감 시각을 주문에 함께 저장하고, 커밋 이후 만료 타이머 등록 (롤백되면 등록하지 않음)
+        long deadline = seatHoldReaper.deadlineFromNow();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(deadline), ZoneId.systemDefault());
+        Order savedOrder = orderWriter.writeHold(session, orderRequestDTO.getUserId(), expiresAt);
+        long orderId = savedOrder.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatHoldReaper.register(orderId, deadline);
+            }
+        });
+        return Map.of("orderId", String.valueOf(orderId), "expiresAt", expiresAt);
+    }
 
-        log.info("배송이 시작된 주문 ID: {}", orderId);
+    /**
+     * 토큰을 검증하고 인증된 사용자(JWT subject) 반환 - 요청 본문의 사용자 ID 대신 멱등성 키 범위 등에 사용
+     * @param request Authorization 헤더가 있는 요청
+     */
+    public String requireSubject(HttpServletRequest request) {
+        return tokenProvider.getUserIdFromToken(resolveToken(request));
     }
 
-    // 배송 완료
-    @Transactional
-    public void completeShipment(Long orderId) {
-        ExamBook examBook = examBookRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new EntityNotFoundException("Exam book을 찾을 수 없습니다."));
+    // 토큰 유효성 검증
+    private String resolveToken(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            throw new TokenInvalidException("유효하지 않은 Authorization 헤더 형식입니다.");
+        }
 
-        if (examBook.getStatus() != BookStatus.DELIVERED) {
-            throw new BusinessLogicException(400, "INVALID_SHIPMENT_STATUS", "배송 정보가 없습니다.");
+        String token = authorizationHeader.substring(7);
+        if (!tokenProvider.validateToken(token)) {
+            throw new TokenInvalidException("유효하지 않은 토큰입니다.");
         }
+        return token;
+    }
 
-        examBook.setStatus(BookStatus.DELIVERED);
-        examBookRepository.save(examBook);
+    // 대기열 입장 토큰 소비 - 토큰을 발급받은 사용자의 주문에서 한 번만 사용 가능 (대기열 비활성화 시 null)
+    private String consumeAdmission(HttpServletRequest request, String token) {
+        if (!waitingRoomService.isEnabled()) {
+            return null;
+        }
+        String admissionToken = request.getHeader(AdmissionTokenFilter.ADMISSION_HEADER);
+        if (!waitingRoomService.consumeAdmissionToken(admissionToken, tokenProvider.getUserIdFromToken(token))) {
+            throw new BusinessLogicException(403, "ADMISSION_REQUIRED", "대기열 입장 후 주문할 수 있습니다.");
+        }
+        return admissionToken;
+    }
 
-        log.info("배송이 완료된 주문 ID: {}", orderId);
+    private void restoreAdmission(String admissionToken) {
+        if (admissionToken != null) {
+            waitingRoomService.restoreAdmissionToken(admissionToken);
+        }
     }
 
-    @Transactional(readOnly = true)
-    public List<OrderResponseDTO> getOrdersByUser(String userId) {
-        log.info("사용자 ID: {}의 주문 조회", userId);
-
-        List<Order> orders = orderRepository.findByUserId(userId);
-
-        // exam_session_id를 기준으로 중복 제거
-        Map<Long, Order> uniqueOrders = orders.stream()
-                .collect(Collectors.toMap(
-                        order -> order.getExamSession().getId(), // exam_session_id 기준으로
-                        order -> order, // 중복되지 않은 주문
-                        (existing, replacement) -> existing // 중복 발생 시 기존 값 유지
-                ));
-
-        return uniqueOrders.values().stream()
-                .map(order -> new OrderResponseDTO(
-                        order.getId(),
-                        order.getStatus(),
-                        order.getOrderDate(),
-                        order.getDeliveryDate()
-                ))
-                .collect(Collectors.toList());
-    }
-
-    // 주문 취소 로직
-    @Transactional
-    public void cancelOrder(Long orderId) {
-        log.info("주문 ID: {} 취소 요청", orderId);
+    private long requireExamSessionId(OrderRequestDTO orderRequestDTO) {
+        if (orderRequestDTO.getExamSessionId() == null) {
+            throw new IllegalArgumentException("시험 세션 ID가 필요합니다.");
+        }
+        return orderRequestDTO.getExamSessionId();
+    }
 
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
+    // 시험 세션 존재 확인 (캐시 우선)
+    private void requireExamSession(long examSessionId) {
+        if (examSessionCache.get(examSessionId) == null) {
+            throw new EntityNotFoundException("시험 세션을 찾을 수 없습니다.");
+        }
+    }
 
-        if (!order.getStatus().equals("CONFIRMED")) {
-            throw new RuntimeException("이 주문을 취소 할 수 없습니다.");
+    // 매진 플래그 확인 (단건 주문은 SoldOutFilter에서 먼저 거절, 여기서는 좌석 선점 전 재확인)
+    private void rejectSoldOut(long examSessionId) {
+        if (soldOutSignal.isSoldOut(examSessionId)) {
+            throw new BusinessLogicException(409, "SOLD_OUT", "매진된 시험 세션입니다.");
+        }
+    }
+
+    // 좌석 선점 - 마지막 좌석을 가져갔거나 이미 매진이면 모든 인스턴스에 매진 신호 발행
+    private void reserveSeat(long examSessionId) {
+        long remaining = seatInventory.tryReserve(examSessionId);
+        if (remaining == SeatInventory.SOLD_OUT) {
+            soldOutSignal.publishSoldOut(examSessionId);
+            throw new BusinessLogicException(409, "SOLD_OUT", "매진된 시험 세션입니다.");
+        }
+        if (remaining == 0) {
+            soldOutSignal.publishSoldOut(examSessionId);
         }
+    }
 
-        // 배송 상태 확인
-        ExamBook examBook = examBookRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new RuntimeException("Exam book을 찾을 수 없습니다."));
+    // 좌석 반환 - 매진 플래그가 있으면 재입고 신호 발행
+    private void releaseSeat(long examSessionId) {
+        seatInventory.release(examSessionId);
+        soldOutSignal.publishRestock(examSessionId);
+    }
 
-        if (examBook.getStatus() != BookStatus.BOOKED) {
-            throw new RuntimeException("이 주문을 취소 할 수 없습니다. 이미 배송이 시작되었습니다.");
+    // 주문자 조회 및 권한 확인
+    private User loadBuyer(String token) {
+        // JWT에서 이메일 추출 및 암호화
+        String email = tokenProvider.getUserIdFromToken(token);
+        String encryptedEmail = AESUtil.encrypt(email);
+
+        // 사용자 조회
+        User user = userRepository.findByEmail(encryptedEmail)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+        // 권한 확인
+        if (user.getAuthority().equals(Authority.ROLE_INSTRUCTOR)) {
+            throw new TokenInvalidException("강사는 자신의 강의를 주문 할 수 없습니다.");
         }
+        return user;
+    }
 
-        // 주문 취소 처리
-        order.setStatus("CANCELLED");
-        orderRepository.save(order);
+    // 중복 주문 체크 - Bloom Filter에 없는 사용자는 SELECT 없이 통과
+    private void rejectKnownBuyer(String userId, long examSessionId) {
+        if (!buyerBloomFilter.mightHaveOrdered(examSessionId, userId)) {
+            return;
+        }
+        boolean exists = orderRepository.existsByUserIdAndExamSessionId(userId, examSessionId);
+        log.info("중복 주문 체크 결과 (userId: {}, examSessionId: {}): {}", userId, examSessionId, exists);
+        if (exists) {
+            throw new IllegalArgumentException(DUPLICATE_ORDER_MESSAGE);
+        }
+    }
 
-        log.info("주문 ID: {} 취소 완료", orderId);
+    // 배송 시작 - 확정 주문/예약 교재만 배송 중으로 전이
+    public void startShipment(Long orderId) {
+        if (orderStateMachine.applyAll(OrderTransition.START_SHIPMENT, List.of(orderId)) == 0) {
+            requireExamBook(orderId);
+            throw new BusinessLogicException(400, "INVALID_SHIPMENT_STATUS", "배송이 준비 상태가 아닙니다.");
+        }
+
+        log.info("배송이 시작된 주문 ID: {}", orderId);
     }
 
-    // 반품 로직
-    @Transactional
-    public void returnOrder(Long orderId) {
-        log.info("반품 요청: 주문 ID: {}", orderId);
+    // 배송 완료 - 배송 중인 주문만 배송 완료로 전이
+    public void completeShipment(Long orderId) {
+        if (orderStateMachine.applyAll(OrderTransition.COMPLETE_SHIPMENT, List.of(orderId)) == 0) {
+            requireExamBook(orderId);
+            throw new BusinessLogicException(400, "INVALID_SHIPMENT_STATUS", "배송 중인 주문이 아닙니다.");
+        }
 
-        ExamBook examBook = examBookRepository.findByOrderId(orderId)
-                .orElseThrow(() -> new RuntimeException("Exam book을 찾을 수 없습니다."));
+        log.info("배송이 완료된 주문 ID: {}", orderId);
+    }
 
-        if (examBook.getStatus() != BookStatus.DELIVERED) {
-            throw new RuntimeException("이 주문을 반품 할 수 없습니다. 아직 배송하지 않았습니다.");
+    // 주문 상태 일괄 전이 (관리 도구용) - 허용되지 않는 상태의 주문은 건너뜀
+    public Map<String, Object> applyTransition(OrderTransitionRequestDTO request) {
+        if (request.getTransition() == null || request.getOrderIds() == null || request.getOrderIds().isEmpty()) {
+            throw new IllegalArgumentException("전이 종류와 주문 ID 목록이 필요합니다.");
         }
+        List<Long> orderIds = request.getOrderIds().stream().distinct().collect(Collectors.toList());
+        int transitioned = orderStateMachine.applyAll(request.getTransition(), orderIds);
+        log.info("주문 상태 일괄 전이 {}: 요청 {}건, 전이 {}건", request.getTransition(), orderIds.size(), transitioned);
+        return Map.of("requested", orderIds.size(), "transitioned", transitioned);
+    }
 
-        // D+1 반품 가능 조건 확인
-        if (examBook.getDeliveryDate().isBefore(LocalDate.now().minusDays(1))) {
-            throw new RuntimeException("반품 가능 기간이 이미 지났습니다.");
+    // 전이 실패 시 원인 구분용 조회 (교재가 없으면 404)
+    private void requireExamBook(Long orderId) {
+        if (examBookRepository.findByOrderId(orderId).isEmpty()) {
+            throw new EntityNotFoundException("Exam book을 찾을 수 없습니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderResponseDTO> getOrdersByUser(String userId, Long cursor, int size) {
+        log.info("사용자 ID: {}의 주문 조회 (cursor: {}, size: {})", userId, cursor, size);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        int pageSize = normalizePageSize(size);
+        // 방금 주문한 사용자는 복제 지연과 무관하게 원본에서 조회
+        List<OrderResponseDTO> orders = readYourWritesWindow.read(userId, () -> orderRepository.findOrderHistoryByUserId(
+                userId, normalizeCursor(cursor), PageRequest.of(0, pageSize + 1)));
+        return toCursorPage(orders, pageSize, OrderResponseDTO::getOrderId);
+    }
+
+    // 주문 취소 로직 - 배송 전 주문만 취소, 좌석은 커밋 이후 반환
+    public void cancelOrder(Long orderId) {
+        log.info("주문 ID: {} 취소 요청", orderId);
+
+        if (orderStateMachine.applyAll(OrderTransition.CANCEL, List.of(orderId)) == 0) {
+            // 실패 원인 구분
+            Order order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다."));
+            if (!OrderTransition.isAllowed(order.getStatus(), OrderStatus.CANCELLED)) {
+                throw new RuntimeException("이 주문을 취소 할 수 없습니다.");
+            }
+            examBookRepository.findByOrderId(orderId)
+                    .orElseThrow(() -> new RuntimeException("Exam book을 찾을 수 없습니다."));
+            throw new RuntimeException("이 주문을 취소 할 수 없습니다. 이미 배송이 시작되었습니다.");
         }
 
-        // 반품 처리
-        examBook.setStatus(BookStatus.RETURNED);
-        examBookRepository.save(examBook);
+        log.info("주문 ID: {} 취소 완료", orderId);
+    }
+
+    // 반품 로직 - 배송 완료 후 D+1 이내만 반품
+    public void returnOrder(Long orderId) {
+        log.info("반품 요청: 주문 ID: {}", orderId);
+
+        if (orderStateMachine.applyAll(OrderTransition.RETURN, List.of(orderId)) == 0) {
+            // 실패 원인 구분
+            ExamBook examBook = examBookRepository.findByOrderId(orderId)
+                    .orElseThrow(() -> new RuntimeException("Exam book을 찾을 수 없습니다."));
+            if (examBook.getStatus() != BookStatus.DELIVERED) {
+                throw new RuntimeException("이 주문을 반품 할 수 없습니다. 아직 배송하지 않았습니다.");
+            }
+            throw new RuntimeException("반품 가능 기간이 이미 지났습니다.");
+        }
 
         log.info("반품 완료: 주문 ID: {}", orderId);
     }
 
-    // WishList 등록
-    @Transactional
+    // WishList 등록 - 같은 세션을 다시 등록하면 기존 위시리스트 ID 반환
     public Long addToWishList(WishListRequestDTO request) {
         log.info("위시리스트 등록 요청 : {}", request);
 
-        ExamSession session = examSessionRepository.findById(request.getExamSessionId())
-                .orElseThrow(() -> new RuntimeException("시험 세션을 찾을 수 없습니다."));
+        if (examSessionCache.get(request.getExamSessionId()) == null) {
+            throw new RuntimeException("시험 세션을 찾을 수 없습니다.");
+        }
+
+        long wishListId = wishListStore.add(request.getUserId(), request.getExamSessionId());
+        log.info("위시리스트 추가 완료. ID: {}", wishListId);
+        return wishListId;
+    }
 
-        WishList wishList = new WishList();
-        wishList.setExamSession(session);
-        wishList.setUserId(request.getUserId());
+    public CursorPageDTO<WishListResponseDTO> getWishListByUser(String userId, Long cursor, int size) {
+        log.info("사용자 ID: {}의 위시리스트 조회 (cursor: {}, size: {})", userId, cursor, size);
 
-        WishList savedWishList = wishListRepository.save(wishList);
-        log.info("위시리스트 추가 완료. ID: {}", savedWishList.getId());
-        return savedWishList.getId();
+        int pageSize = normalizePageSize(size);
+        List<WishListResponseDTO> wishLists = wishListStore.findByUser(userId, normalizeCursor(cursor), pageSize + 1);
+        return toCursorPage(wishLists, pageSize, WishListResponseDTO::getWishListId);
     }
 
-    @Transactional(readOnly = true)
-    public List<WishListResponseDTO> getWishListByUser(String userId) {
-        log.info("사용자 ID: {}의 위시리스트 조회", userId);
+    // 커서가 없으면 처음부터 조회 (Snowflake ID는 항상 양수)
+    private long normalizeCursor(Long cursor) {
+        return cursor == null ? 0L : cursor;
+    }
 
-        List<WishList> wishLists = wishListRepository.findByUserId(userId);
+    // 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 제한
+    private int normalizePageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 
-        return wishLists.stream()
-                .map(wishList -> new WishListResponseDTO(
-                        wishList.getId(),
-                        wishList.getExamSession().getName(),
-                        wishList.getExamSession().getCategory()
-                ))
-                .collect(Collectors.toList());
+    // pageSize + 1 건을 조회한 결과로 다음 커서 계산
+    private <T> CursorPageDTO<T> toCursorPage(List<T> rows, int pageSize, Function<T, Long> idExtractor) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPageDTO<>(items, idExtractor.apply(items.get(pageSize - 1)));
     }
 
-    @Transactional
     public void removeFromWishList(Long wishListId) {
         log.info("위시리스트 ID: {} 삭제 요청", wishListId);
 
-        WishList wishList = wishListRepository.findById(wishListId)
-                .orElseThrow(() -> new RuntimeException("위시리스트를 찾을 수 없습니다."));
-
-        wishListRepository.delete(wishList);
+        if (wishListStore.remove(wishListId) == null) {
+            throw new RuntimeException("위시리스트를 찾을 수 없습니다.");
+        }
         log.info("위시리스트 ID: {} 삭제 완료", wishListId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.order.entity.OrderTransition;
+import com.doosan.msa.order.repository.ExamBookRepository;
+import com.doosan.msa.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문/배송 상태 머신
+ * - OrderTransition 표에 정의된 전이를 주문 ID 집합에 대해 집합 단위 UPDATE로 적용 (엔티티 로딩 없음)
+ * - 주문 상태를 먼저 바꾸고, 이번에 바뀐 주문의 교재만 이어서 변경하여 두 상태가 어긋나지 않도록 함
+ * - 단건 처리도 같은 경로를 사용 (ID 1개짜리 집합)
+ * - 전이된 주문마다 같은 트랜잭션에서 아웃박스 이벤트 기록, 다음 배송 단계는 커밋 후 지연 큐에 예약
+ */
+@Slf4j
+@Component
+public class OrderStateMachine {
+
+    private final OrderRepository orderRepository;
+    private final ExamBookRepository examBookRepository;
+    private final TransitionRetryTemplate transitionRetryTemplate;
+    private final SeatInventory seatInventory;
+    private final SoldOutSignal soldOutSignal;
+    private final OrderOutbox orderOutbox;
+    private final ShippingDelayQueue shippingDelayQueue;
+    private final int chunkSize;
+
+    public OrderStateMachine(OrderRepository orderRepository,
+                             ExamBookRepository examBookRepository,
+                             TransitionRetryTemplate transitionRetryTemplate,
+                             SeatInventory seatInventory,
+                             SoldOutSignal soldOutSignal,
+                             OrderOutbox orderOutbox,
+                             ShippingDelayQueue shippingDelayQueue,
+                             @Value("${order.transition.chunk-size:1000}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.examBookRepository = examBookRepository;
+        this.transitionRetryTemplate = transitionRetryTemplate;
+        this.seatInventory = seatInventory;
+        this.soldOutSignal = soldOutSignal;
+        this.orderOutbox = orderOutbox;
+        this.shippingDelayQueue = shippingDelayQueue;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 호출하는 쪽 트랜잭션 안에서 전이 적용
+     * @param transition 적용할 전이
+     * @param orderIds 대상 주문 ID
+     * @return 실제로 전이된 주문 수 (허용되지 않는 상태의 주문은 건너뜀)
+     */
+    public int apply(OrderTransition transition, Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        // 실제로 전이된 주문을 정확히 구분하기 위해 전이 가능한 대상 주문을 먼저 잠금 (이벤트 기록, 좌석 반환용)
+        List<Long> targets = orderRepository.lockIdsByStatusIn(orderIds, transition.getOrderFrom());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        int moved;
+        if (transition.checksReturnPeriod()) {
+            moved = orderRepository.transitionOrdersWithinReturnPeriod(targets, transition.getOrderFrom(), transition.getOrderTo(),
+                    transition.getBookFrom(), LocalDate.now().minusDays(1));
+        } else if (transition.checksHoldDeadline()) {
+            moved = orderRepository.transitionOrdersBeforeHoldDeadline(targets, transition.getOrderFrom(), transition.getOrderTo(),
+                    transition.getBookFrom(), LocalDateTime.now());
+        } else {
+            moved = orderRepository.transitionOrders(targets, transition.getOrderFrom(), transition.getOrderTo(), transition.getBookFrom());
+        }
+        if (moved == 0) {
+            return 0;
+        }
+
+        if (transition.setsDeliveryDate()) {
+            examBookRepository.transitionBooksWithDeliveryDate(targets, transition.getBookFrom(), transition.getBookTo(),
+                    transition.getOrderTo(), LocalDate.now().plusDays(2)); // 배송 예정일
+        } else {
+            examBookRepository.transitionBooks(targets, transition.getBookFrom(), transition.getBookTo(), transition.getOrderTo());
+        }
+
+        // 잠근 대상 중 전이 후 상태가 된 주문이 이번 전이로 바뀐 주문
+        List<Long> transitioned = orderRepository.findIdsByIdInAndStatus(targets, transition.getOrderTo());
+        orderOutbox.appendTransitioned(transitioned, transition.getOrderTo());
+        shippingDelayQueue.onTransitioned(transition, transitioned);
+
+        if (transition.releasesSeat()) {
+            releaseSeatsAfterCommit(orderRepository.countByExamSessionIdForIds(targets, transition.getOrderTo()));
+        }
+        log.debug("주문 상태 전이 {}: 요청 {}건, 전이 {}건", transition, orderIds.size(), moved);
+        return moved;
+    }
+
+    /**
+     * 대량 전이 - chunk-size 단위로 나누어 각각 별도 트랜잭션으로 적용 (충돌 시 재시도)
+     * @param transition 적용할 전이
+     * @param orderIds 대상 주문 ID
+     * @return 실제로 전이된 주문 수
+     */
+    public int applyAll(OrderTransition transition, List<Long> orderIds) {
+        int moved = 0;
+        for (int from = 0; from < orderIds.size(); from += chunkSize) {
+            List<Long> chunk = new ArrayList<>(orderIds.subList(from, Math.min(from + chunkSize, orderIds.size())));
+            Integer chunkMoved = transitionRetryTemplate.execute(status -> apply(transition, chunk));
+            moved += chunkMoved == null ? 0 : chunkMoved;
+        }
+        return moved;
+    }
+
+    // 커밋 이후 시험 세션별 취소 건수만큼 좌석을 한 번에 반환
+    private void releaseSeatsAfterCommit(List<Object[]> cancelledPerSession) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (Object[] row : cancelledPerSession) {
+                    long examSessionId = ((Number) row[0]).longValue();
+                    int count = ((Number) row[1]).intValue();
+                    seatInventory.release(examSessionId, count); // 세션마다 한 번에 반환 (Redis 왕복 1회)
+                    soldOutSignal.publishRestock(examSessionId);
+                }
+            }
+        });
+    }
+}
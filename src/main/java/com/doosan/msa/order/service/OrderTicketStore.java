@@ -0,0 +1,68 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비동기 주문 접수표 상태 저장소
+ * - 어느 인스턴스에서 접수했든 조회할 수 있도록 Redis에 TTL과 함께 보관
+ * - 값 형식: {상태}|{주문 ID}|{메시지}
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderTicketStore {
+
+    public static final String PENDING = "PENDING"; // 저장 대기 중
+    public static final String COMPLETED = "COMPLETED"; // 주문 저장 완료
+    public static final String FAILED = "FAILED"; // 주문 저장 실패
+
+    private static final String TICKET_KEY_PREFIX = "order:ticket:";
+    private static final long TICKET_TTL_SECONDS = 60 * 60; // 1시간
+
+    private final RedisUtil redisUtil;
+
+    public void pending(String ticketId) {
+        save(ticketId, PENDING, null, null);
+    }
+
+    public void completed(String ticketId, Long orderId) {
+        save(ticketId, COMPLETED, orderId, null);
+    }
+
+    public void failed(String ticketId, String message) {
+        save(ticketId, FAILED, null, message);
+    }
+
+    /**
+     * 접수표 상태 조회
+     * @param ticketId 접수표 ID
+     * @return 상태 정보, 없거나 만료되었으면 null
+     */
+    public Map<String, Object> find(String ticketId) {
+        String value = redisUtil.getData(TICKET_KEY_PREFIX + ticketId);
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split("\\|", 3);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ticketId", ticketId);
+        result.put("status", parts[0]);
+        if (parts.length > 1 && !parts[1].isEmpty()) {
+            result.put("orderId", parts[1]); // Snowflake ID는 문자열 그대로 반환
+        }
+        if (parts.length > 2 && !parts[2].isEmpty()) {
+            result.put("message", parts[2]);
+        }
+        return result;
+    }
+
+    private void save(String ticketId, String status, Long orderId, String message) {
+        String value = status + "|" + (orderId == null ? "" : orderId) + "|" + (message == null ? "" : message);
+        redisUtil.setDataExpire(TICKET_KEY_PREFIX + ticketId, value, TICKET_TTL_SECONDS);
+    }
+}
@@ -0,0 +1,128 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.exam.entity.ExamSession;
+import com.doosan.msa.order.entity.BookStatus;
+import com.doosan.msa.order.entity.ExamBook;
+import com.doosan.msa.order.entity.Order;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.repository.ExamBookRepository;
+import com.doosan.msa.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 및 배송 정보(ExamBook) 저장
+ * - 동기 주문과 비동기 배치 저장이 같은 규칙으로 엔티티를 생성하도록 한 곳에 모음
+ * - 호출하는 쪽의 트랜잭션 안에서 실행되어야 함
+ * - 주문 생성 이벤트도 같은 트랜잭션에서 아웃박스에 기록하고, 확정된 주문은 커밋 후 배송 시작을 예약
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderWriter {
+
+    private final OrderRepository orderRepository;
+    private final ExamBookRepository examBookRepository;
+    private final OrderOutbox orderOutbox; // 주문 생성 이벤트를 같은 트랜잭션에서 기록
+    private final ShippingDelayQueue shippingDelayQueue; // 커밋 후 배송 시작 예약
+
+    /**
+     * 주문 1건 저장
+     * @param session 시험 세션
+     * @param userId 사용자 ID
+     * @return 저장된 주문
+     */
+    public Order write(ExamSession session, String userId) {
+        Order savedOrder = orderRepository.save(newOrder(session, userId));
+        log.info("주문 생성 완료: 주문 ID: {}, 사용자 ID: {}, 시험 세션 ID: {}", savedOrder.getId(), savedOrder.getUserId(), session.getId());
+
+        ExamBook examBook = examBookRepository.save(newExamBook(savedOrder));
+        log.info("배송 정보 생성 완료: ExamBook ID: {}, 주문 ID: {}", examBook.getId(), savedOrder.getId());
+
+        orderOutbox.appendCreated(List.of(savedOrder));
+        shippingDelayQueue.onCreated(List.of(savedOrder));
+        return savedOrder;
+    }
+
+    /**
+     * 결제 대기 주문(좌석 임시 점유) 1건 저장 - 결제 확정 전까지 교재도 점유 상태로 둠
+     * @param session 시험 세션
+     * @param userId 사용자 ID
+     * @param holdExpiresAt 점유 마감 시각
+     * @return 저장된 주문
+     */
+    public Order writeHold(ExamSession session, String userId, LocalDateTime holdExpiresAt) {
+        Order order = newOrder(session, userId);
+        order.setStatus(OrderStatus.PENDING_PAYMENT);
+        order.setHoldExpiresAt(holdExpiresAt);
+        Order savedOrder = orderRepository.save(order);
+
+        ExamBook examBook = newExamBook(savedOrder);
+        examBook.setStatus(BookStatus.HELD);
+        examBookRepository.save(examBook);
+        log.info("좌석 점유 생성 완료: 주문 ID: {}, 사용자 ID: {}, 시험 세션 ID: {}", savedOrder.getId(), userId, session.getId());
+
+        orderOutbox.appendCreated(List.of(savedOrder));
+        return savedOrder;
+    }
+
+    /**
+     * 주문 여러 건을 한 번에 저장
+     * @param orders 저장할 주문 (시험 세션과 사용자 ID가 채워진 상태)
+     * @return 저장된 주문 (입력 순서 유지)
+     */
+    public List<Order> writeAll(List<Order> orders) {
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+
+        List<ExamBook> examBooks = new ArrayList<>(savedOrders.size());
+        for (Order order : savedOrders) {
+            examBooks.add(newExamBook(order));
+        }
+        examBookRepository.saveAll(examBooks);
+        orderOutbox.appendCreated(savedOrders);
+        shippingDelayQueue.onCreated(savedOrders);
+        log.info("주문 일괄 생성 완료: {}건", savedOrders.size());
+        return savedOrders;
+    }
+
+    /**
+     * 저장 전 주문 엔티티 생성
+     */
+    public Order newOrder(ExamSession session, String userId) {
+        Order order = new Order();
+        order.setExamSession(session);
+        order.setUserId(userId);
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setOrderDate(LocalDate.now());
+        return order;
+    }
+
+    /**
+     * 주문 유니크 제약(user_id, exam_session_id) 위반 여부
+     */
+    public static boolean isDuplicateOrder(Throwable e) {
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        String message = ((DataIntegrityViolationException) e).getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Order.USER_EXAM_SESSION_UNIQUE);
+    }
+
+    private ExamBook newExamBook(Order order) {
+        ExamBook examBook = new ExamBook();
+        examBook.setOrder(order);
+        examBook.setExamSession(order.getExamSession());
+        examBook.setUserId(order.getUserId());
+        examBook.setStatus(BookStatus.BOOKED);
+        examBook.setBookingDate(LocalDate.now());
+        examBook.setDeliveryDate(LocalDate.now().plusDays(2)); // 주문 생성 날짜 + 2일로 설정
+        return examBook;
+    }
+}
@@ -0,0 +1,19 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.order.entity.Order;
+
+/**
+ * 결제 완료 확인
+ * - 결제 대기 주문을 확정하기 전에 결제 참조 번호로 실제 결제가 이루어졌는지 확인
+ * - payment.verifier 설정으로 구현을 선택 (none: 확인 없이 참조 번호만 요구, 결제 대행사 연동 시 구현 추가)
+ */
+public interface PaymentVerifier {
+
+    /**
+     * 결제 확인
+     * @param order 확정할 결제 대기 주문
+     * @param paymentReference 결제 참조 번호
+     * @return 주문에 대한 결제가 완료되었으면 true
+     */
+    boolean verify(Order order, String paymentReference);
+}
@@ -0,0 +1,169 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 기반 좌석 재고 엔진
+ * - 세션별 남은 좌석을 Redis 문자열 키에 보관하고 Lua 스크립트로 조회/차감을 한 번에 처리
+ * - 여러 인스턴스가 동시에 주문을 받아도 초과 판매가 발생하지 않음
+ * - 정원이 판매 수보다 작아지면 남은 좌석을 음수(부족분)로 보관하여, 이후 반환이 부족분부터 채우도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.inventory.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisSeatInventory implements SeatInventory {
+
+    private static final String STOCK_KEY_PREFIX = "stock:remaining:"; // 세션별 남은 좌석 키 (음수는 부족분)
+    private static final String ACTIVE_SESSIONS_KEY = "stock:active-sessions"; // 재고 변경이 있었던 세션 ID 집합 (재고 대사용)
+    private static final String UNLIMITED_STOCK = "unlimited"; // 정원 제한 없는 세션 표시 값
+
+    // 스크립트 반환 코드
+    private static final long SCRIPT_SOLD_OUT = -1L; // 매진
+    private static final long SCRIPT_NOT_LOADED = -2L; // 재고 키 없음
+    private static final long SCRIPT_NO_LIMIT = -3L; // 정원 제한 없음
+
+    // 재고 확인 후 차감, 남은 좌석 반환 (차감했으면 활동 세션으로 기록)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return -2 end " +
+            "if stock == 'unlimited' then return -3 end " +
+            "if tonumber(stock) < tonumber(ARGV[1]) then return -1 end " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "return redis.call('DECRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 재고 키가 있고 정원 제한이 있는 경우에만 증감 (0 아래로 내려가면 부족분으로 유지)
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock or stock == 'unlimited' then return 0 end " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 활동 세션 집합을 읽고 비움
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('SMEMBERS', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return ids",
+            List.class);
+
+    private final RedisUtil redisUtil;
+    private final SeatStockLoader seatStockLoader;
+
+    @Override
+    public long tryReserve(long examSessionId) {
+        return tryReserve(examSessionId, 1);
+    }
+
+    @Override
+    public long tryReserve(long examSessionId, int count) {
+        List<String> keys = scriptKeys(examSessionId);
+        String seats = String.valueOf(count);
+        String sessionId = String.valueOf(examSessionId);
+        Long result = redisUtil.executeScript(RESERVE_SCRIPT, keys, seats, sessionId);
+
+        if (result != null && result == SCRIPT_NOT_LOADED) {
+            // 최초 접근 시 DB 기준으로 재고를 적재한 뒤 다시 시도
+            load(examSessionId);
+            result = redisUtil.executeScript(RESERVE_SCRIPT, keys, seats, sessionId);
+        }
+
+        if (result == null || result == SCRIPT_NOT_LOADED) {
+            throw new IllegalStateException("좌석 재고를 적재하지 못했습니다. 시험 세션 ID: " + examSessionId);
+        }
+        if (result == SCRIPT_NO_LIMIT) {
+            return UNLIMITED;
+        }
+        if (result == SCRIPT_SOLD_OUT) {
+            log.debug("매진된 세션 주문 거절: 시험 세션 ID={}", examSessionId);
+            return SOLD_OUT;
+        }
+        return result;
+    }
+
+    @Override
+    public void release(long examSessionId) {
+        adjust(examSessionId, 1);
+    }
+
+    @Override
+    public void release(long examSessionId, int count) {
+        adjust(examSessionId, count);
+    }
+
+    @Override
+    public void capacityChanged(long examSessionId, Integer oldCapacity, Integer newCapacity) {
+        if (oldCapacity == null || newCapacity == null) {
+            // 무제한 <-> 제한 전환은 DB 기준으로 다시 적재
+            evict(examSessionId);
+            return;
+        }
+        int delta = newCapacity - oldCapacity;
+        if (delta != 0) {
+            adjust(examSessionId, delta);
+            log.info("좌석 정원 변경 반영: 시험 세션 ID={}, 변경량={}", examSessionId, delta);
+        }
+    }
+
+    @Override
+    public void preload(long examSessionId) {
+        load(examSessionId);
+    }
+
+    @Override
+    public void evict(long examSessionId) {
+        redisUtil.deleteData(stockKey(examSessionId));
+    }
+
+    @Override
+    public long peek(long examSessionId) {
+        String stock = redisUtil.getData(stockKey(examSessionId));
+        if (stock == null) {
+            return NOT_LOADED;
+        }
+        return UNLIMITED_STOCK.equals(stock) ? UNLIMITED : Long.parseLong(stock);
+    }
+
+    @Override
+    public void adjust(long examSessionId, long delta) {
+        redisUtil.executeScript(ADJUST_SCRIPT, scriptKeys(examSessionId), String.valueOf(delta), String.valueOf(examSessionId));
+    }
+
+    @Override
+    public List<Long> drainActiveSessions() {
+        List<?> ids = redisUtil.executeScript(DRAIN_SCRIPT, List.of(ACTIVE_SESSIONS_KEY));
+        List<Long> sessionIds = new ArrayList<>(ids == null ? 0 : ids.size());
+        if (ids != null) {
+            for (Object id : ids) {
+                sessionIds.add(Long.parseLong(String.valueOf(id)));
+            }
+        }
+        return sessionIds;
+    }
+
+    // 재고 키가 없을 때만 적재하여 동시에 적재하는 다른 인스턴스의 값을 덮어쓰지 않음
+    private void load(long examSessionId) {
+        long remaining = seatStockLoader.loadRemaining(examSessionId);
+        String value = remaining == UNLIMITED ? UNLIMITED_STOCK : String.valueOf(remaining);
+        redisUtil.setDataIfAbsent(stockKey(examSessionId), value);
+    }
+
+    private static List<String> scriptKeys(long examSessionId) {
+        return List.of(stockKey(examSessionId), ACTIVE_SESSIONS_KEY);
+    }
+
+    private static String stockKey(long examSessionId) {
+        return STOCK_KEY_PREFIX + examSessionId;
+    }
+}
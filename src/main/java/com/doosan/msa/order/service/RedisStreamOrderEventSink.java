@@ -0,0 +1,44 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis Streams로 주문 이벤트 발행
+ * - 다른 서비스가 컨슈머 그룹으로 order:events 스트림을 구독
+ * - 스트림 길이는 대략 max-length 수준으로 유지
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "redis-stream")
+public class RedisStreamOrderEventSink implements OrderEventSink {
+
+    private final RedisUtil redisUtil;
+    private final String streamKey;
+    private final long maxLength;
+
+    public RedisStreamOrderEventSink(RedisUtil redisUtil,
+                                     @Value("${order.outbox.stream-key:order:events}") String streamKey,
+                                     @Value("${order.outbox.stream-max-length:100000}") long maxLength) {
+        this.redisUtil = redisUtil;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void publish(OrderEvent event) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("eventId", String.valueOf(event.getEventId()));
+        fields.put("orderId", String.valueOf(event.getOrderId()));
+        fields.put("eventType", event.getEventType());
+        fields.put("payload", event.getPayload());
+        fields.put("occurredAt", event.getOccurredAt().toString());
+        redisUtil.addToStream(streamKey, fields, maxLength);
+    }
+}
@@ -0,0 +1,199 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.exception.BusinessLogicException;
+import com.doosan.msa.common.util.ConcurrentLongMap;
+import com.doosan.msa.exam.entity.ExamSession;
+import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.exam.service.ExamSessionCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 판매 시작/종료 시각 게이트
+ * - 세션별 판매 구간을 메모리에 올려두고 주문 요청마다 DB 접근 없이 시각만 비교
+ * - 판매 시작 N초 전에 좌석 재고, 세션 스냅샷, 구매자 필터를 미리 적재하고 주문 경로를 예열
+ * - 아직 적재되지 않은 세션은 첫 요청에서 세션 캐시로 판매 구간을 읽어 등록 (주기 적재 전에 열린 채로 통과하지 않음)
+ * - 판매 구간이 없는 세션은 항상 통과
+ * - 판매가 끝난 세션의 구매자 필터는 주기 적재 때 제거 (종료 후 주문은 이 게이트에서 거절되므로 필터가 필요 없음)
+ */
+@Slf4j
+@Component
+public class SaleGate {
+
+    private static final String WARMUP_USER_ID = "__sale-gate-warmup__";
+    private static final Window ALWAYS_OPEN = new Window(Long.MIN_VALUE, Long.MAX_VALUE); // 판매 구간이 없는 세션
+
+    private final ExamSessionRepository examSessionRepository;
+    private final ExamSessionCache examSessionCache;
+    private final SeatInventory seatInventory;
+    private final BuyerBloomFilter buyerBloomFilter;
+    private final long prewarmMillis;
+    private final int warmupIterations;
+    private final ConcurrentLongMap<Window> windows = new ConcurrentLongMap<>();
+
+    public SaleGate(ExamSessionRepository examSessionRepository,
+                    ExamSessionCache examSessionCache,
+                    SeatInventory seatInventory,
+                    BuyerBloomFilter buyerBloomFilter,
+                    @Value("${order.sale.prewarm-seconds:30}") long prewarmSeconds,
+                    @Value("${order.sale.warmup-iterations:20000}") int warmupIterations) {
+        this.examSessionRepository = examSessionRepository;
+        this.examSessionCache = examSessionCache;
+        this.seatInventory = seatInventory;
+        this.buyerBloomFilter = buyerBloomFilter;
+        this.prewarmMillis = prewarmSeconds * 1000;
+        this.warmupIterations = warmupIterations;
+    }
+
+    /**
+     * 판매 구간 확인, 판매 중이 아니면 예외
+     * @param examSessionId 시험 세션 ID
+     */
+    public void check(long examSessionId) {
+        Window window = windows.get(examSessionId);
+        if (window == null) {
+            window = load(examSessionId);
+            if (window == null) {
+                return; // 존재하지 않는 세션은 이후 세션 확인에서 거절됨
+            }
+        }
+        long now = System.currentTimeMillis();
+        if (now < window.opensAt) {
+            throw new BusinessLogicException(403, "SALE_NOT_OPEN", "아직 판매가 시작되지 않았습니다.");
+        }
+        if (now >= window.closesAt) {
+            throw new BusinessLogicException(403, "SALE_CLOSED", "판매가 종료되었습니다.");
+        }
+    }
+
+    /**
+     * 세션 판매 구간 등록/변경 (세션 생성, 수정 시)
+     * @param examSessionId 시험 세션 ID
+     * @param opensAt 판매 시작 시각 (null이면 즉시)
+     * @param closesAt 판매 종료 시각 (null이면 종료 없음)
+     */
+    public void register(long examSessionId, LocalDateTime opensAt, LocalDateTime closesAt) {
+        windows.put(examSessionId, windowOf(opensAt, closesAt));
+        log.info("판매 구간 등록: 시험 세션 ID={}, 시작={}, 종료={}", examSessionId, opensAt, closesAt);
+    }
+
+    /**
+     * 세션 판매 구간 제거 (세션 삭제 시)
+     * @param examSessionId 시험 세션 ID
+     */
+    public void remove(long examSessionId) {
+        windows.remove(examSessionId);
+    }
+
+    /**
+     * 기동 시, 그리고 주기적으로 DB의 판매 구간을 다시 적재 (다른 인스턴스에서 수정된 구간 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${order.sale.refresh-interval-ms:60000}", fixedDelayString = "${order.sale.refresh-interval-ms:60000}")
+    public void refresh() {
+        List<ExamSession> sessions = examSessionRepository.findAllWithSaleWindow();
+        Set<Long> loadedIds = new HashSet<>();
+        for (ExamSession session : sessions) {
+            loadedIds.add(session.getId());
+            Window current = windows.get(session.getId());
+            Window loaded = windowOf(session.getSaleOpensAt(), session.getSaleClosesAt());
+            if (current == null || current.opensAt != loaded.opensAt || current.closesAt != loaded.closesAt) {
+                windows.put(session.getId(), loaded);
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (long examSessionId : windows.keys()) {
+            Window window = windows.get(examSessionId);
+            if (window == null) {
+                continue;
+            }
+            if (now >= window.closesAt) {
+                buyerBloomFilter.evict(examSessionId);
+            }
+            if (!loadedIds.contains(examSessionId) && window != ALWAYS_OPEN) {
+                windows.remove(examSessionId); // 판매 구간이 없어진 세션은 다음 요청에서 다시 확인
+            }
+        }
+        log.debug("판매 구간 적재 완료: {}개 세션", windows.size());
+    }
+
+    /**
+     * 판매 시작이 임박한 세션 예열
+     */
+    @Scheduled(fixedDelayString = "${order.sale.prewarm-check-ms:1000}")
+    public void prewarm() {
+        long now = System.currentTimeMillis();
+        for (long examSessionId : windows.keys()) {
+            Window window = windows.get(examSessionId);
+            if (window == null || window.warmed || window.opensAt == Long.MIN_VALUE) {
+                continue;
+            }
+            if (now >= window.opensAt - prewarmMillis && now < window.closesAt) {
+                warm(examSessionId);
+                window.warmed = true;
+            }
+        }
+    }
+
+    private void warm(long examSessionId) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            examSessionCache.get(examSessionId);
+            seatInventory.preload(examSessionId);
+            buyerBloomFilter.mightHaveOrdered(examSessionId, WARMUP_USER_ID);
+
+            // 판매 직후 첫 요청들이 인터프리터로 실행되지 않도록 DB 접근 없는 주문 전처리 경로를 반복 호출
+            for (int i = 0; i < warmupIterations; i++) {
+                windows.get(examSessionId);
+                buyerBloomFilter.mightHaveOrdered(examSessionId, WARMUP_USER_ID + i);
+            }
+            log.info("판매 예열 완료: 시험 세션 ID={}, 소요 {}ms", examSessionId, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("판매 예열 실패: 시험 세션 ID={}, 원인={}", examSessionId, e.getMessage());
+        }
+    }
+
+    // 적재 전 세션의 판매 구간을 세션 캐시에서 읽어 등록, 그 사이 등록된 구간이 있으면 그 값을 사용
+    private Window load(long examSessionId) {
+        ExamSessionCache.Snapshot session = examSessionCache.get(examSessionId);
+        if (session == null) {
+            return null;
+        }
+        Window loaded = windowOf(session.getSaleOpensAt(), session.getSaleClosesAt());
+        Window existing = windows.putIfAbsent(examSessionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static Window windowOf(LocalDateTime opensAt, LocalDateTime closesAt) {
+        if (opensAt == null && closesAt == null) {
+            return ALWAYS_OPEN;
+        }
+        return new Window(toMillis(opensAt, Long.MIN_VALUE), toMillis(closesAt, Long.MAX_VALUE));
+    }
+
+    private static long toMillis(LocalDateTime time, long defaultValue) {
+        return time == null ? defaultValue : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 판매 구간 (epoch millis)
+    private static final class Window {
+        private final long opensAt;
+        private final long closesAt;
+        private volatile boolean warmed;
+
+        private Window(long opensAt, long closesAt) {
+            this.opensAt = opensAt;
+            this.closesAt = closesAt;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.HashedTimerWheel;
+import com.doosan.msa.common.util.RedisUtil;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.entity.OrderTransition;
+import com.doosan.msa.order.repository.ExamBookRepository;
+import com.doosan.msa.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 결제 대기 좌석 점유 만료 처리
+ * - 점유 마감 시각을 인메모리 해시 타이머 휠에 등록하고, tick마다 만료된 점유만 꺼내 처리 (등록/취소/만료 O(1))
+ * - 한 tick에 만료된 점유는 모아서 한 번의 집합 단위 전이(EXPIRE_HOLD)로 만료하고 좌석을 반환
+ * - 만료된 주문/교재 행은 같은 트랜잭션에서 삭제하여 같은 사용자가 다시 점유할 수 있도록 함
+ * - 마감 시각은 Redis Sorted Set에도 기록하여 재시작 시 휠을 복구하고, 종료된 인스턴스의 점유는 주기적으로 정리
+ * - 마감 시각은 주문(hold_expires_at)에도 저장되므로, 커밋 후 등록 전에 장애가 났거나 Redis 기록이 빠진 점유는
+ *   정리 주기에 DB에서 직접 찾아 만료 (결제 확정도 DB의 마감 시각을 확인하므로 만료 전 확정되지 않음)
+ */
+@Slf4j
+@Component
+public class SeatHoldReaper {
+
+    private static final String HOLDS_KEY = "order:holds"; // 주문 ID -> 점유 마감 시각 (epoch millis)
+
+    private final OrderStateMachine orderStateMachine;
+    private final TransitionRetryTemplate transitionRetryTemplate;
+    private final OrderRepository orderRepository;
+    private final ExamBookRepository examBookRepository;
+    private final RedisUtil redisUtil;
+    private final long holdMillis;
+    private final long tickMillis;
+    private final int batchSize;
+    private final HashedTimerWheel wheel;
+
+    public SeatHoldReaper(OrderStateMachine orderStateMachine,
+                          TransitionRetryTemplate transitionRetryTemplate,
+                          OrderRepository orderRepository,
+                          ExamBookRepository examBookRepository,
+                          RedisUtil redisUtil,
+                          @Value("${order.hold.ttl-seconds:600}") long holdSeconds,
+                          @Value("${order.hold.tick-ms:1000}") long tickMillis,
+                          @Value("${order.hold.wheel-size:1024}") int wheelSize,
+                          @Value("${order.hold.batch-size:1000}") int batchSize) {
+        this.orderStateMachine = orderStateMachine;
+        this.transitionRetryTemplate = transitionRetryTemplate;
+        this.orderRepository = orderRepository;
+        this.examBookRepository = examBookRepository;
+        this.redisUtil = redisUtil;
+        this.holdMillis = holdSeconds * 1000;
+        this.tickMillis = tickMillis;
+        this.batchSize = Math.max(1, batchSize);
+        this.wheel = new HashedTimerWheel(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 지금 점유를 시작할 때의 마감 시각
+     */
+    public long deadlineFromNow() {
+        return System.currentTimeMillis() + holdMillis;
+    }
+
+    /**
+     * 점유 만료 등록 (점유 주문 커밋 이후 호출)
+     * @param orderId 결제 대기 주문 ID
+     * @param deadlineMillis 마감 시각
+     */
+    public void register(long orderId, long deadlineMillis) {
+        wheel.schedule(orderId, deadlineMillis);
+        try {
+            redisUtil.zAdd(HOLDS_KEY, String.valueOf(orderId), deadlineMillis);
+        } catch (RuntimeException e) {
+            // 복구용 기록만 빠지고 이 인스턴스의 만료 처리는 그대로 동작
+            log.warn("좌석 점유 마감 기록 실패: 주문 ID={}, 원인={}", orderId, e.getMessage());
+        }
+    }
+
+    /**
+     * 점유 만료 등록 해제 (결제 확정 후 호출)
+     * @param orderId 주문 ID
+     */
+    public void unregister(long orderId) {
+        wheel.cancel(orderId);
+        try {
+            redisUtil.zRemove(HOLDS_KEY, String.valueOf(orderId));
+        } catch (RuntimeException e) {
+            // 남은 기록은 정리 주기에 만료 전이가 건너뛰고 삭제함
+            log.warn("좌석 점유 마감 기록 삭제 실패: 주문 ID={}, 원인={}", orderId, e.getMessage());
+        }
+    }
+
+    /**
+     * 타이머 휠 진행 - 이번 tick까지 마감된 점유를 모아 만료
+     */
+    @Scheduled(fixedRateString = "${order.hold.tick-ms:1000}")
+    public void tick() {
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), expired::add);
+        expire(expired);
+    }
+
+    /**
+     * 마감이 지난 점유 정리 (종료된 인스턴스가 등록한 점유, 휠/Redis 등록 누락분)
+     * - Redis 기록과 DB의 결제 대기 주문을 함께 확인하여, Redis에 기록되지 않은 점유도 만료
+     */
+    @Scheduled(fixedDelayString = "${order.hold.sweep-interval-ms:60000}")
+    public void sweep() {
+        // 살아 있는 인스턴스의 휠이 먼저 처리하도록 2 tick 여유를 둠
+        long cutoff = System.currentTimeMillis() - tickMillis * 2;
+        Set<Long> overdue = new LinkedHashSet<>();
+        try {
+            for (ZSetOperations.TypedTuple<String> tuple : redisUtil.zRangeByScoreWithScores(HOLDS_KEY, 0, cutoff, batchSize)) {
+                overdue.add(Long.parseLong(tuple.getValue()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("마감 지난 좌석 점유 조회 실패, DB에서만 확인: {}", e.getMessage());
+        }
+        try {
+            overdue.addAll(orderRepository.findOverdueHoldIds(OrderStatus.PENDING_PAYMENT,
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(cutoff), ZoneId.systemDefault()), PageRequest.of(0, batchSize)));
+        } catch (RuntimeException e) {
+            log.warn("마감 지난 결제 대기 주문 조회 실패: {}", e.getMessage());
+        }
+        if (!overdue.isEmpty()) {
+            log.info("마감 지난 좌석 점유 정리: {}건", overdue.size());
+            expire(new ArrayList<>(overdue));
+        }
+    }
+
+    /**
+     * 재시작 시 Redis에 기록된 점유를 휠에 다시 등록 (이미 마감된 점유는 다음 tick에 만료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        Set<ZSetOperations.TypedTuple<String>> holds;
+        try {
+            holds = redisUtil.zRangeByScoreWithScores(HOLDS_KEY, 0, Double.MAX_VALUE, -1);
+        } catch (RuntimeException e) {
+            log.warn("좌석 점유 복구 실패, 정리 주기에 만료 처리됨: {}", e.getMessage());
+            return;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : holds) {
+            wheel.schedule(Long.parseLong(tuple.getValue()), tuple.getScore().longValue());
+        }
+        log.info("좌석 점유 복구: {}건", holds.size());
+    }
+
+    // batch-size 단위로 만료 전이 + 만료 행 삭제, 실패한 묶음은 다음 tick에 다시 시도
+    private void expire(List<Long> orderIds) {
+        for (int from = 0; from < orderIds.size(); from += batchSize) {
+            List<Long> chunk = new ArrayList<>(orderIds.subList(from, Math.min(from + batchSize, orderIds.size())));
+            try {
+                Integer expired = transitionRetryTemplate.execute(status -> {
+                    int moved = orderStateMachine.apply(OrderTransition.EXPIRE_HOLD, chunk);
+                    if (moved > 0) {
+                        examBookRepository.deleteByOrderIdInAndOrderStatus(chunk, OrderStatus.EXPIRED);
+                        orderRepository.deleteByIdInAndStatus(chunk, OrderStatus.EXPIRED);
+                    }
+                    return moved;
+                });
+                log.info("좌석 점유 만료: 대상 {}건, 만료 {}건", chunk.size(), expired);
+            } catch (RuntimeException e) {
+                log.warn("좌석 점유 만료 처리 실패, 재시도 예정: {}건, 원인={}", chunk.size(), e.getMessage());
+                long retryAt = System.currentTimeMillis() + tickMillis;
+                for (Long orderId : chunk) {
+                    wheel.schedule(orderId, retryAt);
+                }
+                continue;
+            }
+            // 결제 확정된 주문은 전이 대상에서 빠지므로 만료 여부와 관계없이 기록 삭제
+            try {
+                redisUtil.zRemove(HOLDS_KEY, chunk.stream().map(String::valueOf).toArray(String[]::new));
+            } catch (RuntimeException e) {
+                log.warn("좌석 점유 마감 기록 삭제 실패: {}건, 원인={}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+}
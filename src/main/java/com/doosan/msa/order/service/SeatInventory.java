@@ -0,0 +1,91 @@
+package com.doosan.msa.order.service;
+
+import java.util.List;
+
+/**
+ * 시험 세션 좌석 재고 엔진
+ * - 주문 트랜잭션 이전에 좌석을 선점하여 매진된 요청을 DB 접근 없이 거절
+ */
+public interface SeatInventory {
+
+    long SOLD_OUT = -1L; // 매진
+    long UNLIMITED = Long.MAX_VALUE; // 정원 제한 없음
+    long NOT_LOADED = Long.MIN_VALUE; // 재고가 아직 적재되지 않음 (남은 좌석은 부족분으로 음수일 수 있으므로 음수 값과 겹치지 않게 함)
+
+    /**
+     * 좌석 1개를 원자적으로 선점
+     * @param examSessionId 시험 세션 ID
+     * @return 선점 후 남은 좌석 수, 매진이면 SOLD_OUT, 정원 제한이 없으면 UNLIMITED
+     */
+    long tryReserve(long examSessionId);
+
+    /**
+     * 좌석 count개를 원자적으로 선점 (전부 선점하거나 전혀 선점하지 않음, 일괄 주문)
+     * @param examSessionId 시험 세션 ID
+     * @param count 선점할 좌석 수
+     * @return 선점 후 남은 좌석 수, 남은 좌석이 count보다 적으면 SOLD_OUT, 정원 제한이 없으면 UNLIMITED
+     */
+    long tryReserve(long examSessionId, int count);
+
+    /**
+     * 선점했던 좌석을 반환 (주문 실패, 주문 취소)
+     * @param examSessionId 시험 세션 ID
+     */
+    void release(long examSessionId);
+
+    /**
+     * 선점했던 좌석 count개를 반환 (일괄 주문 실패, 일괄 취소)
+     * @param examSessionId 시험 세션 ID
+     * @param count 반환할 좌석 수
+     */
+    void release(long examSessionId, int count);
+
+    /**
+     * 세션 정원 변경을 재고에 반영
+     * @param examSessionId 시험 세션 ID
+     * @param oldCapacity 변경 전 정원
+     * @param newCapacity 변경 후 정원
+     */
+    void capacityChanged(long examSessionId, Integer oldCapacity, Integer newCapacity);
+
+    /**
+     * 세션 재고를 미리 적재 (판매 시작 전 예열)
+     * @param examSessionId 시험 세션 ID
+     */
+    void preload(long examSessionId);
+
+    /**
+     * 세션 재고를 제거 (세션 삭제 시), 다음 접근 시 DB 기준으로 다시 적재됨
+     * @param examSessionId 시험 세션 ID
+     */
+    void evict(long examSessionId);
+
+    /**
+     * 현재 남은 좌석 수 조회 (변경 없음, 재고 대사용)
+     * @param examSessionId 시험 세션 ID
+     * @return 남은 좌석 수 (정원이 판매 수보다 작아졌으면 음수), 적재 전이면 NOT_LOADED, 정원 제한이 없으면 UNLIMITED
+     */
+    long peek(long examSessionId);
+
+    /**
+     * 남은 좌석 수를 원자적으로 증감 (재고 대사 보정, 정원 변경), 0 아래로 내려가면 부족분으로 유지
+     * - 적재 전이거나 정원 제한이 없으면 무시
+     * @param examSessionId 시험 세션 ID
+     * @param delta 증감량
+     */
+    void adjust(long examSessionId, long delta);
+
+    /**
+     * 마지막 호출 이후 좌석 선점/반환이 있었던 세션 ID를 꺼내고 비움
+     * @return 활동이 있었던 세션 ID
+     */
+    List<Long> drainActiveSessions();
+
+    /**
+     * 남은 좌석 수를 모든 인스턴스가 함께 보는지 여부 (재고 대사를 한 인스턴스에서만 실행할지 결정)
+     * @return 인스턴스 간 공유되는 재고면 true, 인스턴스마다 따로 가지는 재고면 false
+     */
+    default boolean isShared() {
+        return true;
+    }
+}
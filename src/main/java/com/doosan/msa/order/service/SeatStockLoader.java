@@ -0,0 +1,58 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.datasource.ReadWriteRoutingDataSource;
+import com.doosan.msa.exam.entity.ExamSession;
+import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 좌석 재고 초기값 계산
+ * - 재고 캐시가 비어 있을 때 정원 - 유효 주문 수로 남은 좌석을 구함 (정원 축소로 음수가 될 수 있음)
+ * - 이 값으로 실시간 카운터를 채우므로 복제본이 아닌 원본에서 읽음 (복제 지연으로 주문 수가 적게 읽히면 초과 판매됨)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStockLoader {
+
+    // 좌석을 차지하지 않는 주문 상태
+    static final Set<OrderStatus> RELEASED_STATUSES = EnumSet.of(OrderStatus.CANCELLED, OrderStatus.EXPIRED);
+
+    private final ExamSessionRepository examSessionRepository;
+    private final OrderRepository orderRepository;
+
+    /**
+     * 세션의 남은 좌석 수 계산
+     * @param examSessionId 시험 세션 ID
+     * @return 남은 좌석 수 (부족하면 음수), 정원 제한이 없으면 SeatInventory.UNLIMITED
+     */
+    @Transactional(readOnly = true)
+    public long loadRemaining(long examSessionId) {
+        return ReadWriteRoutingDataSource.usePrimary(() -> loadRemainingFromPrimary(examSessionId));
+    }
+
+    private long loadRemainingFromPrimary(long examSessionId) {
+        ExamSession session = examSessionRepository.findById(examSessionId)
+                .orElseThrow(() -> new EntityNotFoundException("시험 세션을 찾을 수 없습니다."));
+
+        if (session.getCapacity() == null) {
+            return SeatInventory.UNLIMITED;
+        }
+
+        // 취소/만료된 주문은 좌석을 차지하지 않음 (결제 대기 중인 점유는 포함)
+        long ordered = orderRepository.countByExamSessionIdAndStatusNotIn(examSessionId, RELEASED_STATUSES);
+        long remaining = session.getCapacity() - ordered; // 정원이 주문 수보다 작으면 음수(부족분)
+        log.info("좌석 재고 적재: 시험 세션 ID={}, 정원={}, 주문 수={}, 남은 좌석={}",
+                examSessionId, session.getCapacity(), ordered, remaining);
+        return remaining;
+    }
+}
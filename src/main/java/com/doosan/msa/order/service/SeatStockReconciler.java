@@ -0,0 +1,262 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.datasource.ReadWriteRoutingDataSource;
+import com.doosan.msa.common.util.ConcurrentLongMap;
+import com.doosan.msa.common.util.RedisUtil;
+import com.doosan.msa.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 좌석 재고 대사
+ * - 재고 엔진의 남은 좌석 수를 orders 기준 값(정원 - 좌석을 차지한 주문 수)과 비교하여 어긋난 카운터를 보정
+ * - 평소에는 마지막 실행 이후 선점/반환이 있었던 세션만 다시 확인하고(증분), 하루 한 번 전체 세션을 스트리밍으로 확인
+ * - 진행 중인 주문(선점 후 커밋 전)으로 생기는 일시적 차이를 보정하지 않도록, 같은 오차가 연속 두 번 관측된 경우에만 보정
+ * - 보정은 증감량으로 원자적으로 적용하여 그 사이의 선점/반환을 덮어쓰지 않음
+ * - 주문 수는 원본에서 읽음 (멈춘 복제본은 같은 오차를 계속 보여 주므로 잘못된 보정으로 이어짐)
+ * - 공유 재고(redis 모드)는 여러 인스턴스 중 한 곳에서만 실행되도록 Redis 잠금 사용
+ * - 인메모리 재고(local 모드)는 인스턴스마다 카운터를 따로 가지므로 잠금 없이 각 인스턴스가 자기 카운터를 대사
+ */
+@Slf4j
+@Component
+public class SeatStockReconciler {
+
+    private static final String LOCK_KEY = "stock:reconcile:lock";
+    private static final String LOCAL_OWNER = "local"; // 잠금 없이 실행할 때의 소유자 표시
+
+    // 잠금 값이 자기 소유자 토큰일 때만 삭제 (조회와 삭제 사이에 만료되어 다른 인스턴스가 잡은 잠금을 지우지 않음)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final OrderRepository orderRepository;
+    private final SeatInventory seatInventory;
+    private final SoldOutSignal soldOutSignal;
+    private final RedisUtil redisUtil;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+    private final long lockSeconds;
+
+    private final ConcurrentLongMap<Long> suspectedDrift = new ConcurrentLongMap<>(); // 세션 ID -> 직전 실행에서 관측한 오차
+
+    // 누적 지표
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder sessionsChecked = new LongAdder();
+    private final LongAdder driftDetected = new LongAdder();
+    private final LongAdder repaired = new LongAdder();
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    public SeatStockReconciler(OrderRepository orderRepository,
+                               SeatInventory seatInventory,
+                               SoldOutSignal soldOutSignal,
+                               RedisUtil redisUtil,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.reconcile.batch-size:500}") int batchSize,
+                               @Value("${order.reconcile.lock-seconds:300}") long lockSeconds) {
+        this.orderRepository = orderRepository;
+        this.seatInventory = seatInventory;
+        this.soldOutSignal = soldOutSignal;
+        this.redisUtil = redisUtil;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = Math.max(1, batchSize);
+        this.lockSeconds = lockSeconds;
+    }
+
+    /**
+     * 증분 대사 - 마지막 실행 이후 활동이 있었던 세션과 오차가 의심되는 세션만 확인
+     */
+    @Scheduled(fixedDelayString = "${order.reconcile.interval-ms:30000}")
+    public void reconcileActive() {
+        String owner = lock();
+        if (owner == null) {
+            return;
+        }
+        try {
+            Set<Long> sessionIds = new LinkedHashSet<>(seatInventory.drainActiveSessions());
+            for (long examSessionId : suspectedDrift.keys()) {
+                sessionIds.add(examSessionId);
+            }
+            if (sessionIds.isEmpty()) {
+                return;
+            }
+
+            Run run = new Run("incremental");
+            List<Long> ids = new ArrayList<>(sessionIds);
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                List<Object[]> usage = ReadWriteRoutingDataSource.usePrimary(() -> readOnlyTransaction.execute(
+                        status -> orderRepository.findSeatUsage(chunk, SeatStockLoader.RELEASED_STATUSES)));
+                Set<Long> found = new LinkedHashSet<>();
+                for (Object[] row : usage) {
+                    found.add(check(row, run));
+                }
+                // 삭제되었거나 정원 제한이 없어진 세션은 대사 대상에서 제외
+                for (Long examSessionId : chunk) {
+                    if (!found.contains(examSessionId)) {
+                        suspectedDrift.remove(examSessionId);
+                    }
+                }
+            }
+            finish(run);
+        } finally {
+            unlock(owner);
+        }
+    }
+
+    /**
+     * 전체 대사 - 정원이 있는 모든 세션의 주문 수를 스트리밍으로 집계하여 확인 (수동 수정 등 재고 엔진을 거치지 않은 변경 대비)
+     */
+    @Scheduled(cron = "${order.reconcile.full-cron:0 0 4 * * ?}")
+    public void reconcileAll() {
+        String owner = lock();
+        if (owner == null) {
+            return;
+        }
+        try {
+            Run run = new Run("full");
+            ReadWriteRoutingDataSource.usePrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<Object[]> usage = orderRepository.streamSeatUsage(SeatStockLoader.RELEASED_STATUSES)) {
+                    usage.forEach(row -> check(row, run));
+                }
+                return null;
+            }));
+            finish(run);
+        } finally {
+            unlock(owner);
+        }
+    }
+
+    /**
+     * 재고 대사 지표
+     * @return 누적 지표와 마지막 실행 결과
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("runs", runs.sum());
+        stats.put("sessionsChecked", sessionsChecked.sum());
+        stats.put("driftDetected", driftDetected.sum());
+        stats.put("repaired", repaired.sum());
+        stats.put("suspectedSessions", suspectedDrift.size());
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+
+    // [시험 세션 ID, 정원, 좌석을 차지한 주문 수] 한 행을 카운터와 비교하고 필요하면 보정, 세션 ID 반환
+    private long check(Object[] row, Run run) {
+        long examSessionId = ((Number) row[0]).longValue();
+        long capacity = ((Number) row[1]).longValue();
+        long occupied = ((Number) row[2]).longValue();
+        run.checked++;
+
+        long observed = seatInventory.peek(examSessionId);
+        if (observed == SeatInventory.NOT_LOADED || observed == SeatInventory.UNLIMITED) {
+            // 적재되지 않은 카운터는 다음 접근 시 DB 기준으로 적재됨
+            suspectedDrift.remove(examSessionId);
+            return examSessionId;
+        }
+
+        long drift = (capacity - occupied) - observed; // 카운터는 부족분을 음수로 보관
+        if (drift == 0) {
+            suspectedDrift.remove(examSessionId);
+            return examSessionId;
+        }
+
+        run.detected++;
+        run.absoluteDrift += Math.abs(drift);
+        Long previous = suspectedDrift.get(examSessionId);
+        if (previous == null || previous != drift) {
+            // 진행 중인 주문으로 인한 일시적 차이일 수 있으므로 다음 실행에서 다시 확인
+            suspectedDrift.put(examSessionId, drift);
+            log.info("좌석 재고 오차 관측: 시험 세션 ID={}, 정원={}, 주문 수={}, 카운터={}, 오차={}",
+                    examSessionId, capacity, occupied, observed, drift);
+            return examSessionId;
+        }
+
+        seatInventory.adjust(examSessionId, drift);
+        suspectedDrift.remove(examSessionId);
+        run.repaired++;
+        if (drift > 0) {
+            soldOutSignal.publishRestock(examSessionId);
+        }
+        log.warn("좌석 재고 보정: 시험 세션 ID={}, 정원={}, 주문 수={}, 카운터={}, 보정량={}",
+                examSessionId, capacity, occupied, observed, drift);
+        return examSessionId;
+    }
+
+    private void finish(Run run) {
+        runs.increment();
+        sessionsChecked.add(run.checked);
+        driftDetected.add(run.detected);
+        repaired.add(run.repaired);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", run.mode);
+        result.put("startedAt", run.startedAt.toString());
+        result.put("durationMs", System.currentTimeMillis() - run.startMillis);
+        result.put("sessionsChecked", run.checked);
+        result.put("driftDetected", run.detected);
+        result.put("absoluteDrift", run.absoluteDrift);
+        result.put("repaired", run.repaired);
+        lastRun = result;
+        log.info("좌석 재고 대사 완료: {}", result);
+    }
+
+    // 잠금 획득 시 소유자 토큰 반환, 다른 인스턴스가 실행 중이면 null (인스턴스별 재고는 잠금 없이 실행)
+    private String lock() {
+        if (!seatInventory.isShared()) {
+            return LOCAL_OWNER;
+        }
+        String owner = UUID.randomUUID().toString();
+        try {
+            return redisUtil.setDataIfAbsent(LOCK_KEY, owner, lockSeconds) ? owner : null;
+        } catch (RuntimeException e) {
+            log.warn("좌석 재고 대사 잠금 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void unlock(String owner) {
+        if (LOCAL_OWNER.equals(owner)) {
+            return;
+        }
+        try {
+            redisUtil.executeScript(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        } catch (RuntimeException e) {
+            log.warn("좌석 재고 대사 잠금 해제 실패, 만료 시간 후 해제됨: {}", e.getMessage());
+        }
+    }
+
+    // 한 번의 대사 실행 결과
+    private static final class Run {
+        private final String mode;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startMillis = System.currentTimeMillis();
+        private long checked;
+        private long detected;
+        private long absoluteDrift;
+        private long repaired;
+
+        private Run(String mode) {
+            this.mode = mode;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.RedisDelayQueue;
+import com.doosan.msa.order.entity.Order;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.entity.OrderTransition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배송 상태 전이 예약
+ * - 주문이 확정되면 배송 시작(D+1)을, 배송이 시작되면 배송 완료(D+2)를 지연 큐에 예약하여 자정 일괄 처리 대신 주문 시각 기준으로 분산
+ * - 예약은 커밋 이후에 기록 (롤백된 주문은 예약하지 않음), 예약에 실패한 주문은 자정 배송 스케줄러가 하루 늦게 처리
+ * - 실제 전이는 ShippingTransitionWorker가 처리
+ */
+@Slf4j
+@Component
+public class ShippingDelayQueue {
+
+    static final String QUEUE = "shipping";
+    private static final char SEPARATOR = ':';
+
+    private final RedisDelayQueue redisDelayQueue;
+    private final boolean enabled;
+    private final long shipDelayMillis;
+    private final long deliverDelayMillis;
+
+    public ShippingDelayQueue(RedisDelayQueue redisDelayQueue,
+                              @Value("${shipping.delay-queue.enabled:true}") boolean enabled,
+                              @Value("${shipping.delay-queue.ship-after-ms:86400000}") long shipDelayMillis,
+                              @Value("${shipping.delay-queue.deliver-after-ms:86400000}") long deliverDelayMillis) {
+        this.redisDelayQueue = redisDelayQueue;
+        this.enabled = enabled;
+        this.shipDelayMillis = shipDelayMillis;
+        this.deliverDelayMillis = deliverDelayMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 생성 후 확정된 주문의 배송 시작 예약 (결제 대기 주문은 결제 확정 시 예약)
+     * @param orders 저장된 주문
+     */
+    public void onCreated(List<Order> orders) {
+        List<Long> confirmed = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            if (order.getStatus() == OrderStatus.CONFIRMED) {
+                confirmed.add(order.getId());
+            }
+        }
+        scheduleAfterCommit(OrderTransition.START_SHIPMENT, confirmed, shipDelayMillis);
+    }
+
+    /**
+     * 상태 전이 후 다음 배송 단계 예약
+     * @param transition 적용된 전이
+     * @param orderIds 전이된 주문 ID
+     */
+    public void onTransitioned(OrderTransition transition, Collection<Long> orderIds) {
+        if (transition == OrderTransition.CONFIRM_PAYMENT) {
+            scheduleAfterCommit(OrderTransition.START_SHIPMENT, orderIds, shipDelayMillis);
+        } else if (transition == OrderTransition.START_SHIPMENT) {
+            scheduleAfterCommit(OrderTransition.COMPLETE_SHIPMENT, orderIds, deliverDelayMillis);
+        }
+    }
+
+    // 큐 항목 "주문 ID:전이"
+    static String member(long orderId, OrderTransition transition) {
+        return orderId + String.valueOf(SEPARATOR) + transition.name();
+    }
+
+    static long orderIdOf(String member) {
+        return Long.parseLong(member.substring(0, member.indexOf(SEPARATOR)));
+    }
+
+    static OrderTransition transitionOf(String member) {
+        return OrderTransition.valueOf(member.substring(member.indexOf(SEPARATOR) + 1));
+    }
+
+    private void scheduleAfterCommit(OrderTransition transition, Collection<Long> orderIds, long delayMillis) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(orderIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(transition, ids, delayMillis);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(transition, ids, delayMillis);
+            }
+        });
+    }
+
+    private void schedule(OrderTransition transition, List<Long> orderIds, long delayMillis) {
+        long dueAt = System.currentTimeMillis() + delayMillis;
+        Map<String, Long> entries = new LinkedHashMap<>(orderIds.size() * 2);
+        for (Long orderId : orderIds) {
+            entries.put(member(orderId, transition), dueAt);
+        }
+        try {
+            redisDelayQueue.schedule(QUEUE, entries);
+        } catch (RuntimeException e) {
+            log.warn("배송 전이 예약 실패, 자정 배송 스케줄러가 처리: {} {}건, 원인={}", transition, orderIds.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.RedisDelayQueue;
+import com.doosan.msa.order.entity.OrderTransition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 배송 상태 전이 워커
+ * - 지연 큐에서 예정 시각이 지난 항목을 작은 묶음으로 계속 가져와 전이별로 상태 머신에 적용 (묶음마다 별도 트랜잭션)
+ * - 이미 취소되었거나 다른 경로로 전이된 주문은 상태 머신이 건너뛰므로 그대로 처리 완료
+ * - 적용에 실패한 묶음은 ack하지 않아 처리 제한 시간 후 다시 가져감
+ * - 형식이 잘못된 항목은 묶음을 실패시키지 않도록 실패 리스트로 옮기고 나머지만 처리
+ */
+@Slf4j
+@Component
+public class ShippingTransitionWorker {
+
+    private final RedisDelayQueue redisDelayQueue;
+    private final OrderStateMachine orderStateMachine;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final long pollMillis;
+    private final long visibilityMillis;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public ShippingTransitionWorker(RedisDelayQueue redisDelayQueue,
+                                    OrderStateMachine orderStateMachine,
+                                    ShippingDelayQueue shippingDelayQueue,
+                                    @Value("${shipping.delay-queue.workers:2}") int workers,
+                                    @Value("${shipping.delay-queue.batch-size:100}") int batchSize,
+                                    @Value("${shipping.delay-queue.poll-interval-ms:500}") long pollMillis,
+                                    @Value("${shipping.delay-queue.visibility-timeout-ms:60000}") long visibilityMillis) {
+        this.redisDelayQueue = redisDelayQueue;
+        this.orderStateMachine = orderStateMachine;
+        this.enabled = shippingDelayQueue.isEnabled();
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.pollMillis = pollMillis;
+        this.visibilityMillis = visibilityMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("배송 전이 지연 큐 비활성화, 자정 배송 스케줄러만 사용");
+            return;
+        }
+        running = true;
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "shipping-transition-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::drainLoop);
+        }
+        log.info("배송 전이 워커 시작: 워커 수={}, 묶음 크기={}", workers, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("배송 전이 워커 종료 대기 시간 초과, 가져간 항목은 처리 제한 시간 후 다시 처리됨");
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                // 가득 찬 묶음을 처리했으면 밀린 항목이 더 있을 수 있으므로 바로 다음 묶음을 가져감
+                if (drainOnce() < batchSize) {
+                    Thread.sleep(pollMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("배송 전이 워커 오류: {}", e.getMessage(), e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    // 예정 시각이 지난 항목 한 묶음 처리, 가져간 항목 수 반환
+    private int drainOnce() {
+        List<String> members = redisDelayQueue.claimDue(ShippingDelayQueue.QUEUE, System.currentTimeMillis(), batchSize, visibilityMillis);
+        if (members.isEmpty()) {
+            return 0;
+        }
+
+        Map<OrderTransition, List<Long>> orderIdsByTransition = new EnumMap<>(OrderTransition.class);
+        Map<OrderTransition, List<String>> membersByTransition = new EnumMap<>(OrderTransition.class);
+        List<String> malformed = new ArrayList<>();
+        for (String member : members) {
+            OrderTransition transition;
+            long orderId;
+            try {
+                transition = ShippingDelayQueue.transitionOf(member);
+                orderId = ShippingDelayQueue.orderIdOf(member);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                malformed.add(member);
+                continue;
+            }
+            orderIdsByTransition.computeIfAbsent(transition, t -> new ArrayList<>()).add(orderId);
+            membersByTransition.computeIfAbsent(transition, t -> new ArrayList<>()).add(member);
+        }
+        if (!malformed.isEmpty()) {
+            redisDelayQueue.deadLetter(ShippingDelayQueue.QUEUE, malformed);
+            log.warn("형식이 잘못된 배송 전이 항목을 실패 리스트로 이동: {}", malformed);
+        }
+
+        for (Map.Entry<OrderTransition, List<Long>> entry : orderIdsByTransition.entrySet()) {
+            int moved = orderStateMachine.applyAll(entry.getKey(), entry.getValue());
+            redisDelayQueue.ack(ShippingDelayQueue.QUEUE, membersByTransition.get(entry.getKey()));
+            log.debug("배송 전이 {}: 예정 {}건, 전이 {}건", entry.getKey(), entry.getValue().size(), moved);
+        }
+        return members.size();
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.ConcurrentLongMap;
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 클러스터 매진 신호
+ * - 좌석이 소진되면 Redis Pub/Sub으로 모든 인스턴스에 알리고, 각 인스턴스는 로컬 플래그에 반영
+ * - 주문 요청은 SoldOutFilter에서 JWT 검증 전에 로컬 플래그만 보고 바로 거절 (서비스에서도 좌석 선점 전에 한 번 더 확인)
+ * - 좌석이 반환되면(주문 실패/취소, 정원 증가) 재입고 신호로 플래그 해제
+ * - 신호 유실에 대비해 플래그는 일정 시간 후 만료되고, 이후 첫 요청이 재고를 다시 확인함
+ * - 만료된 플래그는 주기적으로 제거하여, 매진 세션이 없으면 SoldOutFilter가 다시 요청 본문을 읽지 않게 함
+ */
+@Slf4j
+@Component
+public class SoldOutSignal implements MessageListener {
+
+    private static final String CHANNEL = "order:sold-out"; // 매진/재입고 신호 채널
+    private static final String SOLD_OUT = "SOLD_OUT:";
+    private static final String RESTOCK = "RESTOCK:";
+
+    private final RedisUtil redisUtil;
+    private final long flagTtlMillis;
+    private final ConcurrentLongMap<Long> soldOutUntil = new ConcurrentLongMap<>(); // 세션 ID -> 플래그 만료 시각
+
+    public SoldOutSignal(RedisUtil redisUtil,
+                         RedisMessageListenerContainer listenerContainer,
+                         @Value("${order.sold-out.flag-ttl-ms:5000}") long flagTtlMillis) {
+        this.redisUtil = redisUtil;
+        this.flagTtlMillis = flagTtlMillis;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 로컬 매진 플래그 확인 (Redis/DB 접근 없음)
+     * @param examSessionId 시험 세션 ID
+     * @return 매진으로 알려진 세션이면 true
+     */
+    public boolean isSoldOut(long examSessionId) {
+        Long until = soldOutUntil.get(examSessionId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * 매진 플래그가 하나라도 있는지 확인 (없으면 필터가 요청 본문을 읽지 않고 통과시킴)
+     */
+    public boolean hasSoldOutSessions() {
+        return soldOutUntil.size() > 0;
+    }
+
+    /**
+     * 매진 신호 발행 (재고가 0이 되었거나 선점에 실패했을 때)
+     * @param examSessionId 시험 세션 ID
+     */
+    public void publishSoldOut(long examSessionId) {
+        if (isSoldOut(examSessionId)) {
+            return;
+        }
+        markSoldOut(examSessionId);
+        publish(SOLD_OUT + examSessionId);
+    }
+
+    /**
+     * 재입고 신호 발행 (좌석 반환, 정원 변경, 세션 삭제)
+     * @param examSessionId 시험 세션 ID
+     */
+    public void publishRestock(long examSessionId) {
+        if (soldOutUntil.get(examSessionId) == null) {
+            return;
+        }
+        soldOutUntil.remove(examSessionId);
+        publish(RESTOCK + examSessionId);
+    }
+
+    /**
+     * 만료된 매진 플래그 제거 (다시 조회되지 않는 세션의 플래그가 남아 hasSoldOutSessions가 계속 true가 되지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${order.sold-out.flag-ttl-ms:5000}")
+    public void removeExpiredFlags() {
+        long now = System.currentTimeMillis();
+        for (long examSessionId : soldOutUntil.keys()) {
+            Long until = soldOutUntil.get(examSessionId);
+            if (until != null && until <= now) {
+                soldOutUntil.remove(examSessionId, until); // 그 사이 다시 매진된 플래그는 유지
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(SOLD_OUT)) {
+                markSoldOut(Long.parseLong(body.substring(SOLD_OUT.length())));
+            } else if (body.startsWith(RESTOCK)) {
+                soldOutUntil.remove(Long.parseLong(body.substring(RESTOCK.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 매진 신호 무시: {}", body);
+        }
+    }
+
+    private void markSoldOut(long examSessionId) {
+        soldOutUntil.put(examSessionId, System.currentTimeMillis() + flagTtlMillis);
+    }
+
+    // 신호 발행 실패는 주문 처리에 영향을 주지 않음 (플래그 만료로 복구됨)
+    private void publish(String message) {
+        try {
+            redisUtil.publish(CHANNEL, message);
+            log.info("매진 신호 발행: {}", message);
+        } catch (RuntimeException e) {
+            log.warn("매진 신호 발행 실패: {}, 원인={}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.doosan.msa.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문/배송 상태 전이 트랜잭션 재시도
+ * - 낙관적 락 충돌(@Version), 데드락 등 동시성 실패가 나면 트랜잭션 전체를 새로 시작하여 제한된 횟수만큼 재시도
+ * - 재시도 간격은 지수 백오프 + 지터로 충돌한 요청끼리 다시 부딪히지 않도록 분산
+ * - 비즈니스 예외(상태 불일치 등)는 재시도하지 않고 그대로 전달
+ */
+@Slf4j
+@Component
+public class TransitionRetryTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public TransitionRetryTemplate(TransactionTemplate transactionTemplate,
+                                   @Value("${order.transition.max-attempts:3}") int maxAttempts,
+                                   @Value("${order.transition.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * 새 트랜잭션에서 실행하고 동시성 충돌 시 재시도
+     * @param action 트랜잭션 안에서 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T execute(TransactionCallback<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("상태 전이 충돌 재시도 초과: {}회, 원인={}", attempt, e.getMessage());
+                    throw e;
+                }
+                log.info("상태 전이 충돌, 재시도 {}/{}: {}", attempt, maxAttempts, e.getMessage());
+                sleep(attempt);
+            }
+        }
+    }
+
+    private void sleep(int attempt) {
+        long base = backoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(base + ThreadLocalRandom.current().nextLong(base + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상태 전이 재시도 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
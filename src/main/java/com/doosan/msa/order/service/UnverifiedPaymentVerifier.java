@@ -0,0 +1,27 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.order.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * 결제 대행사 연동 전 기본 구현 - 참조 번호가 있으면 결제된 것으로 봄 (주문자 본인 확인은 OrderService에서 수행)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.verifier", havingValue = "none", matchIfMissing = true)
+public class UnverifiedPaymentVerifier implements PaymentVerifier {
+
+    @PostConstruct
+    void warn() {
+        log.warn("결제 확인 없이 결제 참조 번호만으로 결제를 확정합니다 (payment.verifier=none)");
+    }
+
+    @Override
+    public boolean verify(Order order, String paymentReference) {
+        return paymentReference != null && !paymentReference.isBlank();
+    }
+}
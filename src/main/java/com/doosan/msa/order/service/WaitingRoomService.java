@@ -0,0 +1,292 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.exception.TokenInvalidException;
+import com.doosan.msa.common.jwt.TokenProvider;
+import com.doosan.msa.common.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 대기열 (Virtual Waiting Room)
+ * - 판매 시작 시 클라이언트는 대기표를 발급받고 순번을 조회
+ * - 초당 정해진 수의 대기표만 입장시키고, 입장한 대기표에는 HMAC 서명된 입장 토큰을 발급
+ * - 주문 API 앞단 필터는 Redis 조회 없이 서명과 만료 시각만 확인
+ * - 대기표와 입장 토큰은 발급받은 사용자에게 묶이며, 주문 처리 시 토큰 사용자를 확인하고 한 번만 사용하도록 소비
+ * - 사용자마다 유효한 대기표는 하나뿐이며, 대기 중이거나 입장 토큰을 아직 쓰지 않은 대기표가 있으면 다시 요청해도 그 대기표를 반환
+ */
+@Slf4j
+@Service
+public class WaitingRoomService {
+
+    private static final String QUEUE_KEY = "waiting:queue"; // 대기열 (score: 발급 순번)
+    private static final String SEQUENCE_KEY = "waiting:seq"; // 대기표 발급 순번
+    private static final String ADMITTED_KEY_PREFIX = "waiting:admitted:"; // 입장한 대기표의 입장 토큰
+    private static final String ADMIT_SLOT_KEY_PREFIX = "waiting:slot:"; // 초 단위 입장 처리 슬롯 (인스턴스 간 중복 입장 방지)
+    private static final String USER_TICKET_KEY_PREFIX = "waiting:user:"; // 사용자 식별 값 -> 마지막으로 발급한 대기표
+    private static final String ADMITTED = "-1"; // 발급 결과의 순번 자리에 넣는 입장 완료 표시
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int USER_TAG_LENGTH = 22; // 대기표에 붙이는 사용자 식별 값 길이 (서명 앞 128비트)
+
+    // 사용자의 대기표가 아직 대기 중이거나 입장 토큰이 남아 있으면 그 대기표를, 없으면 순번을 발급하여 대기열에 추가
+    // 반환값은 {대기표, 순번} (입장 완료면 순번 자리에 -1), 입장 토큰 키는 기존 대기표로 만들어야 하므로 접두사(ARGV[3])로 받음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local existing = redis.call('GET', KEYS[3]) " +
+            "if existing then " +
+            "  local rank = redis.call('ZRANK', KEYS[1], existing) " +
+            "  if rank then return {existing, tostring(rank)} end " +
+            "  if redis.call('EXISTS', ARGV[3] .. existing) == 1 then return {existing, '-1'} end " +
+            "end " +
+            "local seq = redis.call('INCR', KEYS[2]) " +
+            "redis.call('ZADD', KEYS[1], seq, ARGV[1]) " +
+            "redis.call('SET', KEYS[3], ARGV[1], 'EX', ARGV[2]) " +
+            "return {ARGV[1], tostring(redis.call('ZRANK', KEYS[1], ARGV[1]))}",
+            List.class);
+
+    // 해당 초의 입장 슬롯을 선점한 인스턴스만 대기열 앞쪽 N개를 꺼냄
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[2], '1', 'NX', 'EX', 5) then return {} end " +
+            "local tickets = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+            "if #tickets > 0 then redis.call('ZREM', KEYS[1], unpack(tickets)) end " +
+            "return tickets",
+            List.class);
+
+    // 저장된 입장 토큰과 같을 때만 삭제하여 한 토큰으로 한 번만 주문하도록 함
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final TokenProvider tokenProvider;
+    private final boolean enabled;
+    private final int admitPerSecond;
+    private final long tokenTtlMillis;
+    private final long ticketTtlSeconds;
+    private final byte[] secret;
+
+    private final ThreadLocal<Mac> macs;
+
+    public WaitingRoomService(RedisUtil redisUtil,
+                              TokenProvider tokenProvider,
+                              @Value("${order.waiting-room.enabled:false}") boolean enabled,
+                              @Value("${order.waiting-room.admit-per-second:100}") int admitPerSecond,
+                              @Value("${order.waiting-room.token-ttl-seconds:300}") long tokenTtlSeconds,
+                              @Value("${order.waiting-room.ticket-ttl-seconds:3600}") long ticketTtlSeconds,
+                              @Value("${jwt.secret}") String secretKey) {
+        this.redisUtil = redisUtil;
+        this.tokenProvider = tokenProvider;
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.tokenTtlMillis = tokenTtlSeconds * 1000;
+        this.ticketTtlSeconds = ticketTtlSeconds;
+        this.secret = secretKey.getBytes(StandardCharsets.UTF_8);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기표 발급 (이미 유효한 대기표가 있으면 그 대기표 반환)
+     * @param request 로그인한 사용자의 요청 (Authorization 헤더 필요)
+     * @return 대기표 ID와 현재 순번 (입장한 대기표면 입장 여부만, 입장 토큰은 상태 조회로 받음)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> issueTicket(HttpServletRequest request) {
+        String userTag = userTag(resolveSubject(request));
+        // 대기표 ID에 사용자 식별 값을 붙여 입장 토큰 서명 범위에 포함 (다른 사용자에게 넘겨도 주문에 쓸 수 없음)
+        String newTicket = UUID.randomUUID() + "." + userTag;
+        List<String> issued = redisUtil.executeScript(ENQUEUE_SCRIPT, List.of(QUEUE_KEY, SEQUENCE_KEY, USER_TICKET_KEY_PREFIX + userTag),
+                newTicket, String.valueOf(ticketTtlSeconds), ADMITTED_KEY_PREFIX);
+        String ticket = issued.get(0);
+        boolean admitted = ADMITTED.equals(issued.get(1));
+        log.debug("대기표 발급: ticket={}, 순번={}, 기존 대기표={}", ticket, issued.get(1), !ticket.equals(newTicket));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ticket", ticket);
+        result.put("admitted", admitted);
+        if (!admitted) {
+            result.put("position", Long.parseLong(issued.get(1)) + 1);
+        }
+        return result;
+    }
+
+    /**
+     * 대기표 상태 조회
+     * - 입장했으면 입장 토큰을, 대기 중이면 현재 순번을 반환
+     * @param ticket 대기표 ID
+     */
+    public Map<String, Object> getTicketStatus(String ticket) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ticket", ticket);
+
+        String admissionToken = redisUtil.getData(ADMITTED_KEY_PREFIX + ticket);
+        if (admissionToken != null) {
+            result.put("admitted", true);
+            result.put("admissionToken", admissionToken);
+            return result;
+        }
+
+        Long rank = redisUtil.rank(QUEUE_KEY, ticket);
+        if (rank == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 대기표입니다.");
+        }
+        result.put("admitted", false);
+        result.put("position", rank + 1);
+        return result;
+    }
+
+    /**
+     * 1초마다 대기열 앞쪽의 대기표를 입장시킴
+     * - 모든 인스턴스에서 실행되지만 초 단위 슬롯을 선점한 인스턴스만 입장 처리
+     */
+    @Scheduled(fixedRate = 1000)
+    @SuppressWarnings("unchecked")
+    public void admit() {
+        if (!enabled) {
+            return;
+        }
+        long epochSecond = System.currentTimeMillis() / 1000;
+        List<String> tickets = redisUtil.executeScript(ADMIT_SCRIPT,
+                List.of(QUEUE_KEY, ADMIT_SLOT_KEY_PREFIX + epochSecond), String.valueOf(admitPerSecond));
+        if (tickets == null || tickets.isEmpty()) {
+            return;
+        }
+
+        long expiresAt = System.currentTimeMillis() + tokenTtlMillis;
+        for (String ticket : tickets) {
+            redisUtil.setDataExpire(ADMITTED_KEY_PREFIX + ticket, issueAdmissionToken(ticket, expiresAt), tokenTtlMillis / 1000);
+        }
+        log.info("대기열 입장 처리: {}명", tickets.size());
+    }
+
+    /**
+     * 입장 토큰 사용 처리 (주문 시 인증된 사용자 확인 후 호출)
+     * - 토큰의 사용자가 주문자와 같고, 아직 사용되지 않은 경우에만 원자적으로 소비
+     * @param token 입장 토큰
+     * @param subject 인증된 사용자 (JWT subject)
+     * @return 소비 성공 여부
+     */
+    public boolean consumeAdmissionToken(String token, String subject) {
+        if (!verifyAdmissionToken(token) || !userTag(subject).equals(userTagOf(token))) {
+            return false;
+        }
+        Long deleted = redisUtil.executeScript(CONSUME_SCRIPT, List.of(ADMITTED_KEY_PREFIX + ticketOf(token)), token);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 주문 실패 시 소비한 입장 토큰을 되돌림 (만료되었으면 무시)
+     * @param token 소비했던 입장 토큰
+     */
+    public void restoreAdmissionToken(String token) {
+        long remainingSeconds = (expiryOf(token) - System.currentTimeMillis()) / 1000;
+        if (remainingSeconds > 0) {
+            redisUtil.setDataIfAbsent(ADMITTED_KEY_PREFIX + ticketOf(token), token, remainingSeconds);
+        }
+    }
+
+    /**
+     * 입장 토큰 검증 (Redis 조회 없이 서명과 만료 시각만 확인)
+     * - 토큰 형식: {ticket}.{만료시각(ms)}.{서명}, ticket은 {UUID}.{사용자 식별 값}
+     * @param token 입장 토큰
+     * @return 유효 여부
+     */
+    public boolean verifyAdmissionToken(String token) {
+        if (token == null) {
+            return false;
+        }
+        int signatureStart = token.lastIndexOf('.');
+        int expiryStart = token.lastIndexOf('.', signatureStart - 1);
+        if (signatureStart < 0 || expiryStart <= 0) {
+            return false;
+        }
+
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(token.substring(expiryStart + 1, signatureStart));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            return false;
+        }
+
+        byte[] expected = sign(token.substring(0, signatureStart));
+        byte[] actual = token.substring(signatureStart + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String resolveSubject(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            throw new TokenInvalidException("유효하지 않은 Authorization 헤더 형식입니다.");
+        }
+
+        String token = authorizationHeader.substring(7);
+        if (!tokenProvider.validateToken(token)) {
+            throw new TokenInvalidException("유효하지 않은 토큰입니다.");
+        }
+        return tokenProvider.getUserIdFromToken(token);
+    }
+
+    // 검증을 통과한 토큰에서 대기표 ID 추출
+    private static String ticketOf(String token) {
+        int signatureStart = token.lastIndexOf('.');
+        return token.substring(0, token.lastIndexOf('.', signatureStart - 1));
+    }
+
+    private static long expiryOf(String token) {
+        int signatureStart = token.lastIndexOf('.');
+        return Long.parseLong(token.substring(token.lastIndexOf('.', signatureStart - 1) + 1, signatureStart));
+    }
+
+    private static String userTagOf(String token) {
+        String ticket = ticketOf(token);
+        return ticket.substring(ticket.lastIndexOf('.') + 1);
+    }
+
+    // 사용자 식별 값 - 이메일이 노출되지 않도록 서명 앞부분을 사용
+    private String userTag(String subject) {
+        return new String(sign("user:" + subject), StandardCharsets.US_ASCII).substring(0, USER_TAG_LENGTH);
+    }
+
+    private String issueAdmissionToken(String ticket, long expiresAt) {
+        String payload = ticket + "." + expiresAt;
+        return payload + "." + new String(sign(payload), StandardCharsets.US_ASCII);
+    }
+
+    private byte[] sign(String payload) {
+        byte[] signature = macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encode(signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("입장 토큰 서명 키 초기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.service.LeaseLock;
+import com.doosan.msa.common.util.RedisUtil;
+import com.doosan.msa.common.util.SnowflakeIdGenerator;
+import com.doosan.msa.exam.service.ExamSessionCache;
+import com.doosan.msa.order.dto.responseDTO.WishListResponseDTO;
+import com.doosan.msa.order.repository.WishListRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Redis 위시리스트 저장소 (write-behind)
+ * - 사용자별 Hash(시험 세션 ID -> 위시리스트 ID)로 같은 세션 중복 등록을 막음
+ * - 사용자 위시리스트 조회는 사용자별 Sorted Set(점수 0, 멤버 "19자리 위시리스트 ID:시험 세션 ID")을 ZRANGEBYLEX로 커서 이후부터 읽어
+ *   목록 크기와 관계없이 한 페이지만 조회 (Snowflake ID는 double 점수로 정확히 표현되지 않으므로 점수 대신 사전순 멤버로 정렬)
+ * - 세션별 관심 수는 Sorted Set(시험 세션 ID -> 사용자 수)에 유지하여 인기 세션 순위를 O(log n)으로 조회
+ * - 추가/삭제는 Lua 스크립트 하나로 원자적으로 반영하고 변경 내역을 대기 리스트에 쌓아, 주기적으로 wishlists 테이블에 묶음 반영
+ * - 반영은 리스 잠금을 가진 인스턴스 하나만 수행하며, 커밋 후 대기 리스트에서 제거 (중간에 중단되면 다음 반영에서 다시 처리)
+ * - 반영 주기는 스케줄러 스레드 풀(SchedulingConfiguration)에서 실행되어 배송 상태 업데이트 같은 긴 작업에 밀리지 않음
+ * - 테이블에 반영할 수 없는 변경(삭제된 세션 등)은 버리지 않고 실패 리스트(wish:dead-letter)로 옮겨 확인 후 재처리
+ * - Lua 스크립트가 접근하는 키는 사용자 키까지 모두 KEYS로 전달하지만, 키가 서로 다른 슬롯에 있으므로 Redis Cluster는 지원하지 않음 (단일 노드/Sentinel)
+ * - Redis 데이터가 없으면(최초 배포, Redis 초기화) 테이블에서 다시 적재
+ */
+@Slf4j
+@Component
+public class WishListStore {
+
+    private static final String USER_KEY_PREFIX = "wish:user:"; // 사용자별 시험 세션 ID -> 위시리스트 ID
+    private static final String USER_LIST_KEY_PREFIX = "wish:user-list:"; // 사용자별 "19자리 위시리스트 ID:시험 세션 ID" (점수 0, 사전순 = ID순)
+    private static final String IDS_KEY = "wish:ids"; // 위시리스트 ID -> "시험 세션 ID:사용자 ID"
+    private static final String LEADERBOARD_KEY = "wish:leaderboard"; // 시험 세션 ID -> 관심 사용자 수
+    private static final String PENDING_KEY = "wish:pending"; // 테이블에 반영할 변경 ("A:ID:세션 ID:사용자 ID", "D:ID")
+    private static final String LOADED_KEY = "wish:loaded:v2"; // 테이블에서 적재 완료 표시 (v2: 사용자별 목록 색인 포함)
+    private static final String DEAD_LETTER_KEY = "wish:dead-letter"; // 테이블에 반영하지 못한 변경 (대기 리스트와 같은 형식)
+    private static final String FLUSH_LOCK = "wishlist:flush";
+    private static final String INSERT_SQL = "INSERT INTO wishlists (id, exam_session_id, user_id) VALUES (?, ?, ?)";
+    private static final int LOAD_BATCH = 500;
+    private static final String ID_FORMAT = "%019d"; // 사전순과 숫자순이 같도록 ID를 19자리로 맞춤
+    private static final char LIST_SEPARATOR = ':';
+    private static final char AFTER_SEPARATOR = ';'; // ':' 다음 문자, "ID;"보다 큰 멤버는 그 ID 이후의 위시리스트
+
+    // Lua에서 ID 문자열을 19자리로 맞춤 (Lua 숫자는 double이므로 숫자로 변환하지 않고 문자열로 처리)
+    private static final String PAD_FUNCTION = "local function pad(id) return string.rep('0', 19 - #id) .. id end ";
+
+    // 같은 세션이 이미 있으면 기존 ID, 없으면 새 ID로 등록하고 관심 수 증가, 반환값은 위시리스트 ID
+    private static final RedisScript<String> ADD_SCRIPT = new DefaultRedisScript<>(
+            PAD_FUNCTION +
+            "local existing = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if existing then return existing end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[5], 0, pad(ARGV[2]) .. ':' .. ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[2], ARGV[1] .. ':' .. ARGV[3]) " +
+            "redis.call('ZINCRBY', KEYS[3], 1, ARGV[1]) " +
+            "redis.call('RPUSH', KEYS[4], 'A:' .. ARGV[2] .. ':' .. ARGV[1] .. ':' .. ARGV[3]) " +
+            "return ARGV[2]",
+            String.class);
+
+    // 위시리스트 삭제 후 관심 수 감소 (KEYS[4], KEYS[5]는 호출 전에 조회한 사용자의 키), 반환값은 사용자 ID (없거나 사용자가 다르면 nil)
+    private static final RedisScript<String> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            PAD_FUNCTION +
+            "local entry = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not entry then return nil end " +
+            "local sep = string.find(entry, ':', 1, true) " +
+            "local sessionId = string.sub(entry, 1, sep - 1) " +
+            "if string.sub(entry, sep + 1) ~= ARGV[2] then return nil end " +
+            "if redis.call('HGET', KEYS[4], sessionId) == ARGV[1] then redis.call('HDEL', KEYS[4], sessionId) end " +
+            "redis.call('ZREM', KEYS[5], pad(ARGV[1]) .. ':' .. sessionId) " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "if tonumber(redis.call('ZINCRBY', KEYS[2], -1, sessionId)) <= 0 then redis.call('ZREM', KEYS[2], sessionId) end " +
+            "redis.call('RPUSH', KEYS[3], 'D:' .. ARGV[1]) " +
+            "return ARGV[2]",
+            String.class);
+
+    // 테이블 행 [ID, 세션 ID, 사용자 ID]를 이어 붙인 ARGV로 적재 (n번째 행의 사용자 키는 KEYS[2 + 2n], 사용자 목록 키는 KEYS[3 + 2n]),
+    // 이미 있는 항목은 유지하면서 목록 색인만 보강하고, 같은 세션의 중복 행은 삭제 대상으로 기록
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            PAD_FUNCTION +
+            "local loaded = 0 " +
+            "for i = 1, #ARGV, 3 do " +
+            "  local id, sessionId, userId = ARGV[i], ARGV[i + 1], ARGV[i + 2] " +
+            "  local n = (i + 2) / 3 " +
+            "  local userKey, listKey = KEYS[2 + 2 * n], KEYS[3 + 2 * n] " +
+            "  if redis.call('HEXISTS', KEYS[1], id) == 0 then " +
+            "    if redis.call('HSETNX', userKey, sessionId, id) == 1 then " +
+            "      redis.call('HSET', KEYS[1], id, sessionId .. ':' .. userId) " +
+            "      redis.call('ZADD', listKey, 0, pad(id) .. ':' .. sessionId) " +
+            "      redis.call('ZINCRBY', KEYS[2], 1, sessionId) " +
+            "      loaded = loaded + 1 " +
+            "    else " +
+            "      redis.call('RPUSH', KEYS[3], 'D:' .. id) " +
+            "    end " +
+            "  elseif redis.call('HGET', userKey, sessionId) == id then " +
+            "    redis.call('ZADD', listKey, 0, pad(id) .. ':' .. sessionId) " +
+            "  end " +
+            "end " +
+            "return loaded",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final LeaseLock leaseLock;
+    private final WishListRepository wishListRepository;
+    private final ExamSessionCache examSessionCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int flushBatchSize;
+    private final long lockSeconds;
+
+    public WishListStore(RedisUtil redisUtil,
+                         LeaseLock leaseLock,
+                         WishListRepository wishListRepository,
+                         ExamSessionCache examSessionCache,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${wishlist.flush.batch-size:500}") int flushBatchSize,
+                         @Value("${wishlist.flush.lock-seconds:60}") long lockSeconds) {
+        this.redisUtil = redisUtil;
+        this.leaseLock = leaseLock;
+        this.wishListRepository = wishListRepository;
+        this.examSessionCache = examSessionCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.flushBatchSize = Math.max(1, flushBatchSize);
+        this.lockSeconds = lockSeconds;
+    }
+
+    /**
+     * 위시리스트 등록 (같은 세션이 이미 있으면 기존 위시리스트 ID 반환)
+     * @param userId 사용자 ID
+     * @param examSessionId 시험 세션 ID
+     * @return 위시리스트 ID
+     */
+    public long add(String userId, long examSessionId) {
+        String id = redisUtil.executeScript(ADD_SCRIPT,
+                List.of(USER_KEY_PREFIX + userId, IDS_KEY, LEADERBOARD_KEY, PENDING_KEY, USER_LIST_KEY_PREFIX + userId),
+                String.valueOf(examSessionId), String.valueOf(SnowflakeIdGenerator.getInstance().nextId()), userId);
+        return Long.parseLong(id);
+    }
+
+    /**
+     * 위시리스트 삭제
+     * @param wishListId 위시리스트 ID
+     * @return 삭제한 위시리스트의 사용자 ID, 없으면 null
+     */
+    public String remove(long wishListId) {
+        // 스크립트가 접근할 사용자 키를 KEYS로 넘기기 위해 소유자를 먼저 조회 (위시리스트 ID의 소유자는 바뀌지 않음)
+        String id = String.valueOf(wishListId);
+        String entry = redisUtil.hGet(IDS_KEY, id);
+        if (entry == null) {
+            return null;
+        }
+        String userId = entry.substring(entry.indexOf(':') + 1);
+        return redisUtil.executeScript(REMOVE_SCRIPT,
+                List.of(IDS_KEY, LEADERBOARD_KEY, PENDING_KEY, USER_KEY_PREFIX + userId, USER_LIST_KEY_PREFIX + userId),
+                id, userId);
+    }
+
+    /**
+     * 사용자 위시리스트를 ID 오름차순으로 커서 이후부터 조회 (삭제된 세션은 제외)
+     * @param userId 사용자 ID
+     * @param cursor 이 ID 이후부터 조회
+     * @param limit 최대 조회 수
+     * @return 위시리스트
+     */
+    public List<WishListResponseDTO> findByUser(String userId, long cursor, int limit) {
+        String key = USER_LIST_KEY_PREFIX + userId;
+        String after = String.format(ID_FORMAT, Math.max(0L, cursor)) + AFTER_SEPARATOR;
+        List<WishListResponseDTO> wishLists = new ArrayList<>(limit);
+        while (wishLists.size() < limit) {
+            int requested = limit - wishLists.size();
+            Set<String> members = redisUtil.zRangeByLex(key, after, requested);
+            for (String member : members) {
+                int separator = member.indexOf(LIST_SEPARATOR);
+                ExamSessionCache.Snapshot session = examSessionCache.get(Long.parseLong(member.substring(separator + 1)));
+                if (session != null) {
+                    wishLists.add(new WishListResponseDTO(Long.parseLong(member.substring(0, separator)), session.getName(), session.getCategory()));
+                }
+                after = member;
+            }
+            if (members.size() < requested) {
+                break; // 더 이상 없음 (삭제된 세션을 건너뛴 만큼만 다시 조회)
+            }
+        }
+        return wishLists;
+    }
+
+    /**
+     * 관심 사용자가 많은 시험 세션 순위
+     * @param limit 조회 수
+     * @return 시험 세션 ID -> 관심 사용자 수 (많은 순)
+     */
+    public Map<Long, Long> topSessions(int limit) {
+        Map<Long, Long> ranking = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<String> tuple : redisUtil.zRevRangeWithScores(LEADERBOARD_KEY, 0, limit - 1L)) {
+            ranking.put(Long.parseLong(tuple.getValue()), tuple.getScore() == null ? 0L : tuple.getScore().longValue());
+        }
+        return ranking;
+    }
+
+    /**
+     * 시험 세션의 관심 사용자 수
+     * @param examSessionId 시험 세션 ID
+     * @return 관심 사용자 수
+     */
+    public long countFor(long examSessionId) {
+        Double score = redisUtil.zScore(LEADERBOARD_KEY, String.valueOf(examSessionId));
+        return score == null ? 0L : score.longValue();
+    }
+
+    /**
+     * 대기 중인 변경을 테이블에 반영하고, Redis 데이터가 없으면 테이블에서 다시 적재
+     */
+    @Scheduled(fixedDelayString = "${wishlist.flush.interval-ms:1000}")
+    public void flush() {
+        LeaseLock.Lease lease = leaseLock.tryAcquire(FLUSH_LOCK, lockSeconds);
+        if (lease == null) {
+            return;
+        }
+        try {
+            while (leaseLock.renew(lease)) {
+                List<String> changes = redisUtil.listRange(PENDING_KEY, 0, flushBatchSize - 1L);
+                if (changes.isEmpty()) {
+                    break;
+                }
+                persist(changes, lease);
+                redisUtil.listTrim(PENDING_KEY, changes.size(), -1);
+                if (changes.size() < flushBatchSize) {
+                    break;
+                }
+            }
+            if (!redisUtil.hasKey(LOADED_KEY)) {
+                load();
+            }
+        } catch (RuntimeException e) {
+            log.warn("위시리스트 반영 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+        } finally {
+            leaseLock.release(lease);
+        }
+    }
+
+    // 변경 묶음을 한 트랜잭션으로 반영, 반영할 수 없는 변경(삭제된 세션 등)이 섞여 있으면 건별로 반영하고
+    // 실패한 변경은 실패 리스트로 옮김 (대기 리스트에서 제거되기 전에 기록)
+    private void persist(List<String> changes, LeaseLock.Lease lease) {
+        try {
+            apply(changes, lease);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("위시리스트 묶음 반영 실패, 건별로 다시 반영: {}건, 원인={}", changes.size(), e.getMostSpecificCause().getMessage());
+            List<String> failed = new ArrayList<>();
+            for (String change : changes) {
+                try {
+                    apply(List.of(change), lease);
+                } catch (DataIntegrityViolationException single) {
+                    log.warn("위시리스트 변경 반영 불가, 실패 리스트로 이동: {}, 원인={}", change, single.getMostSpecificCause().getMessage());
+                    failed.add(change);
+                }
+            }
+            if (!failed.isEmpty()) {
+                redisUtil.listPush(DEAD_LETTER_KEY, failed);
+            }
+        }
+    }
+
+    private void apply(List<String> changes, LeaseLock.Lease lease) {
+        // 같은 묶음 안에서 추가 후 삭제된 항목은 테이블에 쓰지 않음
+        Map<Long, Object[]> inserts = new LinkedHashMap<>();
+        List<Long> deletes = new ArrayList<>();
+        for (String change : changes) {
+            String[] parts = change.split(":", 4);
+            long id = Long.parseLong(parts[1]);
+            if ("A".equals(parts[0])) {
+                inserts.put(id, new Object[]{id, Long.parseLong(parts[2]), parts[3]});
+            } else if (inserts.remove(id) == null) {
+                deletes.add(id);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            leaseLock.checkFence(lease);
+            if (!inserts.isEmpty()) {
+                // 이전 반영이 커밋 후 대기 리스트 정리 전에 중단된 경우 이미 저장된 행은 건너뜀
+                wishListRepository.findExistingIds(inserts.keySet()).forEach(inserts::remove);
+                jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(inserts.values()));
+            }
+            if (!deletes.isEmpty()) {
+                wishListRepository.deleteAllByIdInBatch(deletes);
+            }
+        });
+        log.debug("위시리스트 반영 완료: 추가 {}건, 삭제 {}건", inserts.size(), deletes.size());
+    }
+
+    // 테이블의 위시리스트를 Redis에 적재 (이미 Redis에 있는 항목은 유지)
+    private void load() {
+        Long loaded = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            List<String> args = new ArrayList<>(LOAD_BATCH * 3 + 1);
+            try (Stream<Object[]> rows = wishListRepository.streamAllRows()) {
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    Object[] row = iterator.next();
+                    args.add(String.valueOf(row[0]));
+                    args.add(String.valueOf(row[1]));
+                    args.add(String.valueOf(row[2]));
+                    if (args.size() >= LOAD_BATCH * 3) {
+                        count += loadBatch(args);
+                        args.clear();
+                    }
+                }
+            }
+            return args.isEmpty() ? count : count + loadBatch(args);
+        });
+        redisUtil.setData(LOADED_KEY, "1");
+        log.info("위시리스트 Redis 적재 완료: {}건", loaded);
+    }
+
+    private long loadBatch(List<String> rows) {
+        List<String> keys = new ArrayList<>(rows.size() / 3 * 2 + 3);
+        keys.add(IDS_KEY);
+        keys.add(LEADERBOARD_KEY);
+        keys.add(PENDING_KEY);
+        for (int i = 2; i < rows.size(); i += 3) {
+            keys.add(USER_KEY_PREFIX + rows.get(i)); // 행마다 사용자 키와 사용자 목록 키
+            keys.add(USER_LIST_KEY_PREFIX + rows.get(i));
+        }
+        Long loaded = redisUtil.executeScript(LOAD_SCRIPT, keys, rows.toArray(new String[0]));
+        return loaded == null ? 0 : loaded;
+    }
+}
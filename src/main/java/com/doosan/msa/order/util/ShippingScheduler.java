@@ -1,57 +1,351 @@
 package com.doosan.msa.order.util;
 
+import com.doosan.msa.common.service.LeaseLock;
+import com.doosan.msa.common.util.RedisUtil;
 import com.doosan.msa.order.entity.BookStatus;
-import com.doosan.msa.order.entity.ExamBook;
+import com.doosan.msa.order.entity.OrderTransition;
 import com.doosan.msa.order.repository.ExamBookRepository;
-import lombok.RequiredArgsConstructor;
+import com.doosan.msa.order.service.OrderStateMachine;
+import com.doosan.msa.order.service.ShippingDelayQueue;
+import com.doosan.msa.order.service.TransitionRetryTemplate;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 // 배송 상태 관리: 예약/스케줄링 로직 추가
+// 대상 주문 ID만 키셋 청크로 읽고, 상태 변경은 상태 머신의 집합 단위 UPDATE로 청크마다 별도 트랜잭션에서 처리 (엔티티 로딩 없음)
+// 여러 인스턴스에서 동시에 실행되어도 한 번만 처리되도록 펜싱 토큰이 있는 리스 잠금 사용
+// - 기본: 잠금을 얻은 인스턴스 하나가 전체를 처리
+// - 분할(shipping.partitioned=true): 주문 ID 범위를 나눈 분할마다 잠금을 걸어 인스턴스들이 서로 다른 범위를 병렬 처리
+// 배송 전이 지연 큐(ShippingDelayQueue)를 사용하면 주문별 예정 시각에 전이되고, 이 작업은 예약이 누락된 주문을 하루 늦게 처리하는 보정 역할
+// 기준 날짜마다 완료를 기록하고, 이전 실행에서 끝나지 못한 날짜(잠금 상실, 분할 대기 시간 초과, 장애)는 다음 실행에서 먼저 처리
+// 분할 대기는 최대 partition-wait-seconds 동안 스케줄러 스레드를 점유하므로 스케줄러 스레드 풀(SchedulingConfiguration)에서 실행
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ShippingScheduler {
 
+    private static final String JOB_LOCK = "shipping";
+    private static final String PARTITION_LOCK_PREFIX = "shipping:partition:";
+    private static final String DONE_KEY_PREFIX = "shipping:done:"; // 날짜(분할)별 완료 표시
+    private static final String BOUNDS_KEY_PREFIX = "shipping:bounds:"; // 날짜별 분할 범위 (모든 인스턴스가 같은 범위를 사용)
+    private static final String NO_TARGETS = "none";
+    private static final long PARTITION_POLL_MILLIS = 1000L; // 남은 분할이 모두 다른 인스턴스에 잡혀 있을 때 대기 간격
+    private static final int PROGRESS_LOG_CHUNKS = 100; // 진행 상황 로그 간격 (청크 수)
+
     private final ExamBookRepository examBookRepository;
+    private final OrderStateMachine orderStateMachine;
+    private final TransitionRetryTemplate transitionRetryTemplate;
+    private final LeaseLock leaseLock;
+    private final RedisUtil redisUtil;
+    private final int chunkSize;
+    private final boolean partitioned;
+    private final int partitions;
+    private final long leaseSeconds;
+    private final long partitionWaitMillis;
+    private final int backstopLagDays;
+    private final int catchUpDays;
+    private final long markTtlSeconds;
+
+    // 누적 지표
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder partitionsProcessed = new LongAdder();
+    private final LongAdder shipped = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    public ShippingScheduler(ExamBookRepository examBookRepository,
+                             OrderStateMachine orderStateMachine,
+                             TransitionRetryTemplate transitionRetryTemplate,
+                             LeaseLock leaseLock,
+                             RedisUtil redisUtil,
+                             ShippingDelayQueue shippingDelayQueue,
+                             @Value("${shipping.chunk-size:${order.transition.chunk-size:1000}}") int chunkSize,
+                             @Value("${shipping.partitioned:false}") boolean partitioned,
+                             @Value("${shipping.partitions:32}") int partitions,
+                             @Value("${shipping.lease-seconds:60}") long leaseSeconds,
+                             @Value("${shipping.partition-wait-seconds:1800}") long partitionWaitSeconds,
+                             @Value("${shipping.catch-up-days:7}") int catchUpDays) {
+        this.examBookRepository = examBookRepository;
+        this.orderStateMachine = orderStateMachine;
+        this.transitionRetryTemplate = transitionRetryTemplate;
+        this.leaseLock = leaseLock;
+        this.redisUtil = redisUtil;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.partitioned = partitioned;
+        this.partitions = Math.max(1, partitions);
+        this.leaseSeconds = Math.max(1, leaseSeconds);
+        this.partitionWaitMillis = partitionWaitSeconds * 1000;
+        this.backstopLagDays = shippingDelayQueue.isEnabled() ? 1 : 0;
+        this.catchUpDays = Math.max(0, catchUpDays);
+        this.markTtlSeconds = (this.catchUpDays + 2) * 24 * 60 * 60L; // 재처리 확인 기간 동안 완료 표시 유지
+    }
 
     @Scheduled(cron = "0 0 0 * * ?") // 매일 자정 실행
     public void updateShippingStatus() {
-        LocalDate today = LocalDate.now();
-        log.info("배송 상태 업데이트 작업 시작: 오늘 날짜 {}", today);
-
-        // 배송 중으로 변경 (D+1)
-        List<ExamBook> toShip = examBookRepository.findAllByStatusAndBookingDate(BookStatus.BOOKED, today.minusDays(1));
-        log.info("배송 중으로 변경 대상 조회 완료: 총 {}건", toShip.size());
-
-        toShip.forEach(book -> {
-            log.debug("배송 중 변경 준비: ExamBook ID={}, 현재 상태={}, 예약일={}",
-                    book.getId(), book.getStatus(), book.getBookingDate());
-            book.setStatus(BookStatus.DELIVERED);
-            log.info("배송 중으로 상태 변경 완료: ExamBook ID={}, 새로운 상태={}",
-                    book.getId(), book.getStatus());
-        });
-        examBookRepository.saveAll(toShip);
-        log.info("배송 중으로 상태 변경된 ExamBook 저장 완료: 총 {}건", toShip.size());
-
-        // 배송 완료로 변경 (D+2)
-        List<ExamBook> toComplete = examBookRepository.findAllByStatusAndBookingDate(BookStatus.DELIVERED, today.minusDays(1));
-        log.info("배송 완료로 변경 대상 조회 완료: 총 {}건", toComplete.size());
-
-        toComplete.forEach(book -> {
-            log.debug("배송 완료 변경 준비: ExamBook ID={}, 현재 상태={}, 예약일={}",
-                    book.getId(), book.getStatus(), book.getBookingDate());
-
-            book.setStatus(BookStatus.DELIVERED);
-            log.info("배송 완료로 상태 변경: ExamBook ID {}", book.getId());
-        });
-        examBookRepository.saveAll(toComplete);
-        log.info("배송 완료로 상태 변경된 ExamBook 저장 완료: 총 {}건", toComplete.size());
-
-        log.info("배송 상태 업데이트 작업 종료: 날짜 {}", today);
-    }
-}
\ No newline at end of file
+        // 지연 큐를 사용하면 예정 시각에 처리되지 못한 주문만 하루 늦게 보정 (기준일을 하루 전으로)
+        LocalDate baseDate = LocalDate.now().minusDays(backstopLagDays);
+
+        // 이전 실행에서 완료되지 않은 날짜부터 오래된 순으로 처리 (전이 대상은 예약일이 정확히 일치하는 주문이므로 건너뛰면 다시 처리되지 않음)
+        for (int back = catchUpDays; back > 0; back--) {
+            LocalDate pendingDate = baseDate.minusDays(back);
+            if (!redisUtil.hasKey(DONE_KEY_PREFIX + pendingDate)) {
+                log.info("이전 실행에서 완료되지 않은 배송 상태 업데이트 재처리: 기준 날짜 {}", pendingDate);
+                runFor(pendingDate);
+            }
+        }
+        runFor(baseDate);
+    }
+
+    // 기준 날짜 하나의 배송 상태 업데이트 (완료되면 날짜별 완료 표시)
+    private void runFor(LocalDate baseDate) {
+        Run run = new Run();
+        log.info("배송 상태 업데이트 작업 시작: 기준 날짜 {}, 청크 크기 {}, 분할 실행 {}", baseDate, chunkSize, partitioned);
+
+        if (partitioned) {
+            runPartitioned(baseDate, run);
+        } else {
+            runExclusive(baseDate, run);
+        }
+
+        long elapsedMillis = (System.nanoTime() - run.startNanos) / 1_000_000;
+        runs.increment();
+        shipped.add(run.shipped);
+        completed.add(run.completed);
+        partitionsProcessed.add(run.partitions);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseDate", baseDate.toString());
+        result.put("startedAt", run.startedAt.toString());
+        result.put("elapsedMillis", elapsedMillis);
+        result.put("shipped", run.shipped);
+        result.put("completed", run.completed);
+        result.put("chunks", run.chunks);
+        result.put("partitions", run.partitions);
+        lastRun = result;
+        log.info("배송 상태 업데이트 작업 종료: 날짜 {}, 배송 중 {}건, 배송 완료 {}건, 청크 {}개, 소요 {}ms",
+                baseDate, run.shipped, run.completed, run.chunks, elapsedMillis);
+    }
+
+    /**
+     * 배송 상태 업데이트 지표
+     * @return 누적 지표와 이 인스턴스의 마지막 실행 결과
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("runs", runs.sum());
+        stats.put("skipped", skipped.sum());
+        stats.put("chunks", chunks.sum());
+        stats.put("partitions", partitionsProcessed.sum());
+        stats.put("shipped", shipped.sum());
+        stats.put("completed", completed.sum());
+        stats.put("chunkSize", chunkSize);
+        stats.put("partitioned", partitioned);
+        stats.put("lastRun", lastRun);
+        return stats;
+    }
+
+    // 잠금을 얻은 인스턴스 하나가 전체 범위를 처리
+    private void runExclusive(LocalDate baseDate, Run run) {
+        String doneKey = DONE_KEY_PREFIX + baseDate;
+        if (redisUtil.hasKey(doneKey)) {
+            skipped.increment();
+            log.info("배송 상태 업데이트는 이미 완료됨: 기준 날짜 {}", baseDate);
+            return;
+        }
+        LeaseLock.Lease lease = leaseLock.tryAcquire(JOB_LOCK, leaseSeconds);
+        if (lease == null) {
+            skipped.increment();
+            log.info("다른 인스턴스가 배송 상태 업데이트를 실행 중이므로 건너뜀");
+            return;
+        }
+        try {
+            // 잠금을 얻는 사이 다른 인스턴스가 끝냈을 수 있음
+            if (!redisUtil.hasKey(doneKey) && processRange(baseDate, 0L, Long.MAX_VALUE, lease, run)) {
+                redisUtil.setDataExpire(doneKey, String.valueOf(lease.getToken()), markTtlSeconds);
+            }
+        } finally {
+            leaseLock.release(lease);
+        }
+    }
+
+    // 아직 끝나지 않은 분할을 차례로 잠가 처리, 남은 분할이 모두 다른 인스턴스에 잡혀 있으면 잠시 후 다시 확인
+    // (처리 중 중단된 인스턴스의 분할은 리스가 만료되면 다른 인스턴스가 이어서 처리)
+    private void runPartitioned(LocalDate baseDate, Run run) {
+        String dateDoneKey = DONE_KEY_PREFIX + baseDate;
+        if (redisUtil.hasKey(dateDoneKey)) {
+            skipped.increment();
+            log.info("배송 상태 업데이트는 이미 완료됨: 기준 날짜 {}", baseDate);
+            return;
+        }
+        long[] bounds = sharedBounds(baseDate);
+        if (bounds == null) {
+            log.info("배송 상태를 변경할 주문이 없음: {}", baseDate);
+            redisUtil.setDataExpire(dateDoneKey, NO_TARGETS, markTtlSeconds);
+            return;
+        }
+        int partitionCount = (int) bounds[2];
+        long deadline = System.currentTimeMillis() + partitionWaitMillis;
+        while (true) {
+            int remaining = 0;
+            boolean claimed = false;
+            for (int index = 0; index < partitionCount; index++) {
+                String doneKey = DONE_KEY_PREFIX + baseDate + ":" + index;
+                if (redisUtil.hasKey(doneKey)) {
+                    continue;
+                }
+                remaining++;
+                LeaseLock.Lease lease = leaseLock.tryAcquire(PARTITION_LOCK_PREFIX + index, leaseSeconds);
+                if (lease == null) {
+                    continue;
+                }
+                claimed = true;
+                try {
+                    if (redisUtil.hasKey(doneKey)) {
+                        remaining--;
+                        continue;
+                    }
+                    long[] range = partitionRange(bounds[0], bounds[1], partitionCount, index);
+                    if (processRange(baseDate, range[0], range[1], lease, run)) {
+                        redisUtil.setDataExpire(doneKey, String.valueOf(lease.getToken()), markTtlSeconds);
+                        run.partitions++;
+                        remaining--;
+                        log.debug("분할 {}/{} 처리 완료: 주문 ID ({}, {}]", index + 1, partitionCount, range[0], range[1]);
+                    }
+                } finally {
+                    leaseLock.release(lease);
+                }
+            }
+            if (remaining == 0) {
+                redisUtil.setDataExpire(dateDoneKey, String.valueOf(partitionCount), markTtlSeconds); // 모든 분할 완료
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("배송 상태 업데이트 분할 대기 시간 초과, 다음 실행에서 재처리: 기준 날짜 {}, 미완료 분할 {}개", baseDate, remaining);
+                return;
+            }
+            if (!claimed) {
+                sleep();
+            }
+        }
+    }
+
+    // 날짜별 분할 범위 [최소 주문 ID, 최대 주문 ID, 분할 수] - 처음 계산한 인스턴스의 값을 모든 인스턴스가 공유
+    // (처리가 진행되면 대상 행이 줄어 인스턴스마다 다시 계산하면 범위가 어긋나므로)
+    private long[] sharedBounds(LocalDate baseDate) {
+        String key = BOUNDS_KEY_PREFIX + baseDate;
+        String stored = redisUtil.getData(key);
+        if (stored == null) {
+            redisUtil.setDataIfAbsent(key, computeBounds(baseDate), markTtlSeconds);
+            stored = redisUtil.getData(key);
+        }
+        if (stored == null || NO_TARGETS.equals(stored)) {
+            return null;
+        }
+        String[] parts = stored.split(":");
+        return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])};
+    }
+
+    private String computeBounds(LocalDate baseDate) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (List<Object[]> rows : List.of(
+                examBookRepository.findOrderIdBounds(BookStatus.BOOKED, baseDate.minusDays(1)),
+                examBookRepository.findOrderIdBounds(BookStatus.SHIPPING, baseDate.minusDays(2)))) {
+            if (rows.isEmpty() || rows.get(0)[0] == null) {
+                continue;
+            }
+            min = Math.min(min, ((Number) rows.get(0)[0]).longValue());
+            max = Math.max(max, ((Number) rows.get(0)[1]).longValue());
+        }
+        return min > max ? NO_TARGETS : min + ":" + max + ":" + partitions;
+    }
+
+    // index번째 분할의 주문 ID 범위 (하한 미포함, 상한 포함), 마지막 분할이 나머지를 모두 포함
+    static long[] partitionRange(long min, long max, int partitionCount, int index) {
+        long step = Math.max(1, (max - min + 1) / partitionCount);
+        long lower = min - 1 + step * index;
+        long upper = index == partitionCount - 1 ? max : Math.min(max, lower + step);
+        return new long[]{lower, upper};
+    }
+
+    // 주문 ID (lower, upper] 범위에서 배송 중(D+1), 배송 완료(D+2) 전이, 잠금을 잃으면 false
+    private boolean processRange(LocalDate baseDate, long lower, long upper, LeaseLock.Lease lease, Run run) {
+        return transitionByBookingDate(OrderTransition.START_SHIPMENT, BookStatus.BOOKED, baseDate.minusDays(1), lower, upper, lease, run)
+                && transitionByBookingDate(OrderTransition.COMPLETE_SHIPMENT, BookStatus.SHIPPING, baseDate.minusDays(2), lower, upper, lease, run);
+    }
+
+    // 주문 ID 순서로 청크를 읽어 전이 (청크마다 커밋되므로 중간에 멈춰도 다음 보유자가 남은 주문부터 이어서 처리)
+    private boolean transitionByBookingDate(OrderTransition transition, BookStatus bookStatus, LocalDate bookingDate,
+                                            long lower, long upper, LeaseLock.Lease lease, Run run) {
+        long cursor = lower;
+        long chunkCount = 0;
+        while (true) {
+            if (!leaseLock.renew(lease)) {
+                log.warn("배송 상태 업데이트 잠금을 잃어 중단: {}, 토큰={}", lease.getName(), lease.getToken());
+                return false;
+            }
+            List<Long> orderIds = examBookRepository.findOrderIdsByStatusAndBookingDate(
+                    bookStatus, bookingDate, cursor, upper, PageRequest.of(0, chunkSize));
+            if (orderIds.isEmpty()) {
+                return true;
+            }
+
+            Integer moved;
+            try {
+                // 리스가 만료된 사이 다른 인스턴스가 잠금을 가져갔으면 펜싱 토큰 확인에서 롤백됨
+                moved = transitionRetryTemplate.execute(status -> {
+                    leaseLock.checkFence(lease);
+                    return orderStateMachine.apply(transition, orderIds);
+                });
+            } catch (IllegalStateException e) {
+                log.warn("배송 상태 업데이트 중단: {}", e.getMessage());
+                return false;
+            }
+            run.add(transition, moved == null ? 0 : moved);
+            chunks.increment();
+            cursor = orderIds.get(orderIds.size() - 1);
+
+            if (++chunkCount % PROGRESS_LOG_CHUNKS == 0) {
+                log.info("{} 진행 중: 청크 {}개, 마지막 주문 ID {}", transition, chunkCount, cursor);
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(PARTITION_POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배송 상태 업데이트 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    // 이 인스턴스의 한 번의 실행 결과
+    private static final class Run {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private long shipped;
+        private long completed;
+        private long chunks;
+        private long partitions;
+
+        private void add(OrderTransition transition, int moved) {
+            if (transition == OrderTransition.START_SHIPMENT) {
+                shipped += moved;
+            } else {
+                completed += moved;
+            }
+            chunks++;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.doosan.msa.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 원본/복제본 대신 H2 인메모리 DB 두 개로 라우팅 확인
+ * - 각 DB의 node 테이블에 자기 이름을 넣어 두고, 어느 DB에서 조회되었는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(h2("primary"), h2("replica"));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void testReadOnlyTransaction_UsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testReadWriteTransaction_UsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals("primary", currentNode(), "트랜잭션 밖 접근은 원본을 사용해야 한다.");
+    }
+
+    @Test
+    void testUsePrimary_ReadsOwnWriteInReadOnlyTransaction() {
+        // 원본에만 반영된 쓰기 (복제 지연 상황)
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO node VALUES ('order')"));
+
+        assertEquals(1, readOnly.execute(status -> countRows()), "복제본에는 아직 반영되지 않았다.");
+        assertEquals(2, readOnly.execute(status -> ReadWriteRoutingDataSource.usePrimary(this::countRows)),
+                "usePrimary 안에서는 readOnly 트랜잭션도 원본을 사용해야 한다.");
+        assertEquals(1, readOnly.execute(status -> countRows()), "usePrimary 이후에는 다시 복제본을 사용해야 한다.");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node WHERE name <> 'order'", String.class);
+    }
+
+    private Integer countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM node", Integer.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,74 @@
+package com.doosan.msa.common.service;
+
+import com.doosan.msa.common.entity.JobFence;
+import com.doosan.msa.common.repository.JobFenceRepository;
+import com.doosan.msa.common.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LeaseLockTest {
+
+    private static final String NAME = "job";
+    private static final List<String> KEYS = List.of("lease:job", "lease:job:fence");
+
+    private RedisUtil redisUtil;
+    private JobFenceRepository jobFenceRepository;
+    private LeaseLock leaseLock;
+
+    @BeforeEach
+    void setUp() {
+        redisUtil = mock(RedisUtil.class);
+        jobFenceRepository = mock(JobFenceRepository.class);
+        leaseLock = new LeaseLock(redisUtil, jobFenceRepository);
+    }
+
+    @Test
+    void testTryAcquire_PassesRecordedFenceAsFloor() {
+        // Redis 초기화 후에도 DB에 기록된 토큰(42)보다 큰 토큰을 발급하도록 하한으로 전달
+        when(jobFenceRepository.findById(NAME)).thenReturn(Optional.of(new JobFence(NAME, 42L)));
+        when(redisUtil.executeScript(any(), eq(KEYS), eq("30"), eq("42"))).thenReturn(43L);
+
+        LeaseLock.Lease lease = leaseLock.tryAcquire(NAME, 30);
+
+        assertNotNull(lease);
+        assertEquals(43L, lease.getToken());
+    }
+
+    @Test
+    void testTryAcquire_CreatesFenceRowWithZeroFloor() {
+        when(jobFenceRepository.findById(NAME)).thenReturn(Optional.empty());
+        when(redisUtil.executeScript(any(), eq(KEYS), eq("30"), eq("0"))).thenReturn(1L);
+
+        assertNotNull(leaseLock.tryAcquire(NAME, 30));
+        verify(jobFenceRepository).saveAndFlush(new JobFence(NAME, 0L));
+    }
+
+    @Test
+    void testTryAcquire_HeldByOther() {
+        when(jobFenceRepository.findById(NAME)).thenReturn(Optional.of(new JobFence(NAME, 5L)));
+        when(redisUtil.executeScript(any(), eq(KEYS), anyString(), anyString())).thenReturn(-1L);
+
+        assertNull(leaseLock.tryAcquire(NAME, 30), "다른 보유자가 있으면 잠금을 얻지 못해야 한다.");
+    }
+
+    @Test
+    void testCheckFence_RejectsStaleToken() {
+        when(jobFenceRepository.findById(NAME)).thenReturn(Optional.of(new JobFence(NAME, 5L)));
+        when(redisUtil.executeScript(any(), eq(KEYS), anyString(), anyString())).thenReturn(6L);
+        LeaseLock.Lease lease = leaseLock.tryAcquire(NAME, 30);
+
+        // 더 새로운 보유자가 DB를 먼저 변경한 경우
+        when(jobFenceRepository.advance(NAME, 6L)).thenReturn(0);
+        assertThrows(IllegalStateException.class, () -> leaseLock.checkFence(lease));
+
+        when(jobFenceRepository.advance(NAME, 6L)).thenReturn(1);
+        assertDoesNotThrow(() -> leaseLock.checkFence(lease));
+    }
+}
@@ -0,0 +1,36 @@
+package com.doosan.msa.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_NoFalseNegative() {
+        // 추가된 값은 반드시 포함된 것으로 판단해야 함
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user-" + i), "추가된 값은 누락되면 안 된다.");
+        }
+    }
+
+    @Test
+    void testMightContain_FalsePositiveRateWithinBound() {
+        // 예상 건수만큼 채운 뒤의 오탐률은 설정값 근처여야 함
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("guest-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "오탐률이 2%를 넘으면 안 된다. 실제: " + falsePositives);
+    }
+}
@@ -0,0 +1,55 @@
+package com.doosan.msa.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimerWheelTest {
+
+    @Test
+    void testAdvance_ExpiresOnlyAfterDeadline() {
+        // 마감 시각 이전에는 만료되지 않고, 마감 이후 첫 tick에 만료되어야 함
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 0);
+        List<Long> expired = new ArrayList<>();
+        wheel.schedule(1L, 250);
+
+        wheel.advance(200, expired::add);
+        assertTrue(expired.isEmpty(), "마감 전에는 만료되면 안 된다.");
+
+        wheel.advance(300, expired::add);
+        assertEquals(List.of(1L), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_DeadlineBeyondOneRotation() {
+        // 휠 한 바퀴(800ms)보다 먼 만료는 바퀴 수만큼 기다린 뒤 만료되어야 함
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 0);
+        List<Long> expired = new ArrayList<>();
+        wheel.schedule(2L, 5_000);
+
+        wheel.advance(4_900, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(5_000, expired::add);
+        assertEquals(List.of(2L), expired);
+    }
+
+    @Test
+    void testCancel_RemovesScheduledKey() {
+        // 취소된 키는 만료 처리되지 않아야 함
+        HashedTimerWheel wheel = new HashedTimerWheel(100, 8, 0);
+        List<Long> expired = new ArrayList<>();
+        wheel.schedule(3L, 300);
+        wheel.schedule(4L, 300);
+
+        assertTrue(wheel.cancel(3L));
+        assertFalse(wheel.cancel(3L), "이미 취소된 키는 다시 취소되지 않는다.");
+
+        wheel.advance(1_000, expired::add);
+        assertEquals(List.of(4L), expired);
+    }
+}
@@ -0,0 +1,122 @@
+package com.doosan.msa.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedCounterTest {
+
+    @Test
+    void testTryAcquire_NeverOversell() throws InterruptedException {
+        // 재고보다 훨씬 많은 스레드가 동시에 차감해도 성공 횟수는 초기 재고를 넘지 않아야 함
+        int stock = 1_000;
+        StripedCounter counter = new StripedCounter(stock, 16);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < 32; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < 500; n++) {
+                    if (counter.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(stock, acquired.get(), "초기 재고만큼만 차감에 성공해야 한다.");
+        assertEquals(0, counter.sum(), "모든 재고가 소진되어야 한다.");
+        assertFalse(counter.tryAcquire(), "매진 이후 차감은 실패해야 한다.");
+    }
+
+    @Test
+    void testAdd_NegativeKeepsDeficit() {
+        // 감소량이 남은 수량보다 크면 부족분을 음수로 보관하고, 이후 증가분은 부족분부터 채워야 함
+        StripedCounter counter = new StripedCounter(5, 4);
+        counter.add(-10);
+        assertEquals(-5, counter.sum());
+        assertFalse(counter.tryAcquire(), "부족분이 있으면 차감은 실패해야 한다.");
+
+        counter.add(3);
+        assertEquals(-2, counter.sum(), "증가분은 부족분을 먼저 채워야 한다.");
+        assertFalse(counter.tryAcquire());
+
+        counter.add(4);
+        assertEquals(2, counter.sum());
+        assertTrue(counter.tryAcquire(2));
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    void testNegativeInitial_StartsWithDeficit() {
+        StripedCounter counter = new StripedCounter(-3, 4);
+        assertEquals(-3, counter.sum());
+        counter.add(4);
+        assertTrue(counter.tryAcquire());
+        assertFalse(counter.tryAcquire());
+    }
+
+    @Test
+    void testTryAcquireCount_AllOrNothing() {
+        // 여러 슬롯에 걸친 수량도 한 번에 차감하고, 모자라면 아무것도 차감하지 않아야 함
+        StripedCounter counter = new StripedCounter(10, 4);
+        assertTrue(counter.tryAcquire(7));
+        assertEquals(3, counter.sum());
+
+        assertFalse(counter.tryAcquire(4), "남은 수량보다 많이 요청하면 실패해야 한다.");
+        assertEquals(3, counter.sum(), "실패한 차감은 되돌려져야 한다.");
+
+        assertTrue(counter.tryAcquire(3));
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    void testTryAcquire_NotSoldOutDuringBatch() throws InterruptedException {
+        // 여러 개 차감이 슬롯을 비우는 중이거나 실패해 되돌리는 중에도, 남은 수량이 있으면 1개 차감은 실패하지 않아야 함
+        StripedCounter counter = new StripedCounter(100, 8);
+        AtomicInteger falseSoldOut = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < 20_000; n++) {
+                    if (counter.tryAcquire(40)) { // 두 스레드가 동시에 성공하면 20개가 남음
+                        counter.add(40);
+                    }
+                }
+                return null;
+            });
+        }
+        executor.submit(() -> {
+            start.await();
+            for (int n = 0; n < 100_000; n++) {
+                if (counter.tryAcquire()) {
+                    counter.add(1);
+                } else {
+                    falseSoldOut.incrementAndGet();
+                }
+            }
+            return null;
+        });
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(0, falseSoldOut.get(), "남은 수량이 있으면 1개 차감은 성공해야 한다.");
+        assertEquals(100, counter.sum());
+    }
+}
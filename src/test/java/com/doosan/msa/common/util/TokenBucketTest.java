@@ -0,0 +1,41 @@
+package com.doosan.msa.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testTryAcquire_AllowsBurstThenRejects() {
+        // 가득 찬 버킷은 capacity만큼 연속 허용 후 거절해야 함
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertTrue(bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0));
+        assertFalse(bucket.tryAcquire(0), "순간 허용량을 넘으면 거절되어야 한다.");
+    }
+
+    @Test
+    void testTryAcquire_RefillsByElapsedTime() {
+        // 초당 2개씩 채워지므로 0.5초 후 1개만 다시 허용
+        TokenBucket bucket = new TokenBucket(1, 2, 0);
+        assertTrue(bucket.tryAcquire(0));
+        assertFalse(bucket.tryAcquire(SECOND / 4));
+
+        assertTrue(bucket.tryAcquire(SECOND / 2));
+        assertFalse(bucket.tryAcquire(SECOND / 2));
+    }
+
+    @Test
+    void testIsFull_AfterIdle() {
+        // 충분히 쉬면 새 버킷과 같은 상태가 되어 정리 대상이 됨
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryAcquire(0);
+        assertFalse(bucket.isFull(0));
+        assertTrue(bucket.isFull(SECOND));
+    }
+}
@@ -0,0 +1,160 @@
+package com.doosan.msa.order;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.Table;
+import java.time.LocalDate;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 insert 처리량 비교 (IDENTITY 단건 insert vs Snowflake ID + JDBC 배치 insert)
+ * - 애플리케이션과 같은 Hibernate 설정(jdbc.batch_size, order_inserts)으로 persist/flush 경로를 측정
+ * - 실행: ./gradlew benchmark
+ * - 기본은 H2 인메모리 DB, -Dbenchmark.jdbc.url=... 로 MySQL 등 실제 DB에 대해 측정 가능
+ *   (MySQL은 URL에 rewriteBatchedStatements=true를 붙여야 배치가 다중 VALUES로 전송됨)
+ * - 인메모리 DB는 네트워크 왕복이 없으므로 실제 DB보다 차이가 작게 측정됨
+ */
+@Tag("benchmark")
+class OrderInsertBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH_SIZE = 100;
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityOrder.class)
+                .addAnnotatedClass(SnowflakeOrder.class)
+                .setProperty(AvailableSettings.URL, System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:order_bench;DB_CLOSE_DELAY=-1"))
+                .setProperty(AvailableSettings.USER, System.getProperty("benchmark.jdbc.username", "sa"))
+                .setProperty(AvailableSettings.PASS, System.getProperty("benchmark.jdbc.password", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void compareIdentityAndBatchedInserts() {
+        // 워밍업 후 측정
+        insert(IdentityOrder::new, ROWS / 10);
+        insert(SnowflakeOrder::new, ROWS / 10);
+        truncate();
+
+        long identityNanos = insert(IdentityOrder::new, ROWS);
+        long batchNanos = insert(SnowflakeOrder::new, ROWS);
+
+        double identityPerSecond = ROWS / (identityNanos / 1_000_000_000.0);
+        double batchPerSecond = ROWS / (batchNanos / 1_000_000_000.0);
+        System.out.printf("IDENTITY 단건 insert      : %,.0f rows/s%n", identityPerSecond);
+        System.out.printf("Snowflake 배치 insert(%d): %,.0f rows/s (%.1fx)%n", BATCH_SIZE, batchPerSecond, batchPerSecond / identityPerSecond);
+
+        assertEquals(ROWS, count(IdentityOrder.class));
+        assertEquals(ROWS, count(SnowflakeOrder.class), "배치 insert로 모든 행이 저장되어야 한다.");
+    }
+
+    // 서비스의 일괄 저장과 같이 persist 후 배치 크기마다 flush/clear
+    // (IDENTITY 엔티티는 persist 시점에 Hibernate가 insert를 바로 실행하므로 배치가 적용되지 않음)
+    private long insert(IntFunction<BenchOrder> factory, int rows) {
+        long start = System.nanoTime();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(factory.apply(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void truncate() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createQuery("DELETE FROM IdentityOrder").executeUpdate();
+            session.createQuery("DELETE FROM SnowflakeOrder").executeUpdate();
+            transaction.commit();
+        }
+    }
+
+    private long count(Class<? extends BenchOrder> type) {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createQuery("SELECT COUNT(o) FROM " + type.getSimpleName() + " o", Long.class).getSingleResult();
+        }
+    }
+
+    @MappedSuperclass
+    abstract static class BenchOrder {
+        private Long examSessionId;
+        private String userId;
+        private String status;
+        private LocalDate orderDate;
+
+        BenchOrder() {
+        }
+
+        BenchOrder(int row) {
+            this.examSessionId = (long) (row % 10);
+            this.userId = "user-" + row;
+            this.status = "CONFIRMED";
+            this.orderDate = LocalDate.now();
+        }
+    }
+
+    @Entity(name = "IdentityOrder")
+    @Table(name = "bench_identity_orders")
+    static class IdentityOrder extends BenchOrder {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        IdentityOrder() {
+        }
+
+        IdentityOrder(int row) {
+            super(row);
+        }
+    }
+
+    @Entity(name = "SnowflakeOrder")
+    @Table(name = "bench_snowflake_orders")
+    static class SnowflakeOrder extends BenchOrder {
+        @Id
+        @GeneratedValue(generator = "snowflake")
+        @GenericGenerator(name = "snowflake", strategy = "com.doosan.msa.common.entity.SnowflakeIdentifierGenerator")
+        private Long id;
+
+        SnowflakeOrder() {
+        }
+
+        SnowflakeOrder(int row) {
+            super(row);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.doosan.msa.order.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTransitionTest {
+
+    @Test
+    void testIsAllowed_FollowsTransitionTable() {
+        // 전이 표에 정의된 전이만 허용
+        assertTrue(OrderTransition.isAllowed(OrderStatus.CONFIRMED, OrderStatus.SHIPPED));
+        assertTrue(OrderTransition.isAllowed(OrderStatus.CONFIRMED, OrderStatus.CANCELLED));
+        assertTrue(OrderTransition.isAllowed(OrderStatus.SHIPPED, OrderStatus.DELIVERED));
+        assertTrue(OrderTransition.isAllowed(OrderStatus.DELIVERED, OrderStatus.RETURNED));
+
+        assertFalse(OrderTransition.isAllowed(OrderStatus.SHIPPED, OrderStatus.CANCELLED), "배송 중인 주문은 취소할 수 없다.");
+        assertFalse(OrderTransition.isAllowed(OrderStatus.DELIVERED, OrderStatus.DELIVERED), "같은 상태로의 전이는 없다.");
+        assertFalse(OrderTransition.isAllowed(OrderStatus.CANCELLED, OrderStatus.CONFIRMED), "취소된 주문은 되돌릴 수 없다.");
+        assertFalse(OrderTransition.isAllowed(OrderStatus.CONFIRMED, OrderStatus.RETURNED), "배송 전 주문은 반품할 수 없다.");
+    }
+
+    @Test
+    void testTransitions_AlwaysChangeState() {
+        // 모든 전이는 주문과 교재 상태를 실제로 바꿔야 함 (DELIVERED -> DELIVERED 같은 전이 금지)
+        for (OrderTransition transition : OrderTransition.values()) {
+            assertFalse(transition.getOrderFrom().contains(transition.getOrderTo()), transition + " 주문 상태가 바뀌지 않는다.");
+            assertNotEquals(transition.getBookFrom(), transition.getBookTo(), transition + " 교재 상태가 바뀌지 않는다.");
+        }
+    }
+
+    @Test
+    void testHoldTransitions_OnlyFromPendingPayment() {
+        // 결제 대기 주문은 확정되거나 만료될 뿐, 배송/취소로 바로 넘어가지 않음
+        assertTrue(OrderTransition.isAllowed(OrderStatus.PENDING_PAYMENT, OrderStatus.CONFIRMED));
+        assertTrue(OrderTransition.isAllowed(OrderStatus.PENDING_PAYMENT, OrderStatus.EXPIRED));
+        assertFalse(OrderTransition.isAllowed(OrderStatus.PENDING_PAYMENT, OrderStatus.SHIPPED));
+        assertFalse(OrderTransition.isAllowed(OrderStatus.EXPIRED, OrderStatus.CONFIRMED), "만료된 점유는 확정할 수 없다.");
+
+        assertTrue(OrderTransition.EXPIRE_HOLD.releasesSeat());
+        assertFalse(OrderTransition.CONFIRM_PAYMENT.releasesSeat());
+    }
+}
@@ -0,0 +1,95 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.exception.BusinessLogicException;
+import com.doosan.msa.common.util.RedisUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 멱등성 키 처리 상태(실행 중/완료/다른 본문 재사용) 확인
+ * - RedisUtil은 Map에 저장하는 Mock으로 대신함 (TTL은 확인하지 않음)
+ */
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "order:user@test.com";
+    private static final String KEY = "key-1";
+
+    private final Map<String, String> store = new HashMap<>();
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        RedisUtil redisUtil = mock(RedisUtil.class);
+        when(redisUtil.getData(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        when(redisUtil.setDataIfAbsent(anyString(), anyString(), anyLong()))
+                .thenAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(redisUtil).setDataExpire(anyString(), anyString(), anyLong());
+        doAnswer(invocation -> store.remove(invocation.<String>getArgument(0)))
+                .when(redisUtil).deleteData(anyString());
+        idempotencyService = new IdempotencyService(redisUtil, new ObjectMapper());
+    }
+
+    @Test
+    void testExecute_ReplaysStoredResponse() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<String, Object> first = idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1),
+                () -> Map.of("orderId", calls.incrementAndGet()));
+        Map<String, Object> retry = idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1),
+                () -> Map.of("orderId", calls.incrementAndGet()));
+
+        assertEquals(1, calls.get(), "재시도 요청은 작업을 다시 실행하지 않아야 한다.");
+        assertEquals(first, retry);
+    }
+
+    @Test
+    void testExecute_RejectsKeyReusedWithDifferentBody() {
+        idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1), () -> Map.of("orderId", 1));
+
+        BusinessLogicException e = assertThrows(BusinessLogicException.class,
+                () -> idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 2), () -> Map.of("orderId", 2)));
+        assertEquals(422, e.getStatusCode());
+        assertEquals("IDEMPOTENCY_KEY_REUSED", e.getCode());
+    }
+
+    @Test
+    void testExecute_RejectsWhileInProgressElsewhere() {
+        // 다른 인스턴스가 같은 본문으로 실행 중인 상태
+        idempotencyService.execute(SCOPE, "probe", Map.of("examSessionId", 1), () -> Map.of("orderId", 1));
+        String fingerprint = store.get("idempotency:" + SCOPE + ":probe").split("\\|")[1];
+        store.put("idempotency:" + SCOPE + ":" + KEY, "IN_PROGRESS|" + fingerprint);
+
+        BusinessLogicException e = assertThrows(BusinessLogicException.class,
+                () -> idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1), () -> Map.of("orderId", 2)));
+        assertEquals(409, e.getStatusCode());
+        assertEquals("IDEMPOTENCY_IN_PROGRESS", e.getCode());
+    }
+
+    @Test
+    void testExecute_RejectsDifferentBodyWhileInProgress() {
+        store.put("idempotency:" + SCOPE + ":" + KEY, "IN_PROGRESS|other-fingerprint");
+
+        BusinessLogicException e = assertThrows(BusinessLogicException.class,
+                () -> idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1), () -> Map.of("orderId", 1)));
+        assertEquals(422, e.getStatusCode(), "실행 중이어도 다른 본문이면 409가 아닌 422로 거절해야 한다.");
+    }
+
+    @Test
+    void testExecute_ReleasesKeyWhenActionFails() {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1),
+                () -> { throw new IllegalStateException("실패"); }));
+
+        Map<String, Object> result = idempotencyService.execute(SCOPE, KEY, Map.of("examSessionId", 1), () -> Map.of("orderId", 1));
+        assertEquals(1, result.get("orderId"), "실패한 요청은 같은 키로 다시 실행할 수 있어야 한다.");
+    }
+}
@@ -0,0 +1,134 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.util.RedisUtil;
+import com.doosan.msa.order.entity.OrderStatus;
+import com.doosan.msa.order.entity.OrderTransition;
+import com.doosan.msa.order.repository.ExamBookRepository;
+import com.doosan.msa.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.support.TransactionCallback;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 점유 만료 처리 확인
+ * - tick 간격을 1ms로 두고 마감이 지난 시각으로 등록하여 다음 tick에 바로 만료되도록 함
+ */
+class SeatHoldReaperTest {
+
+    private static final String HOLDS_KEY = "order:holds";
+    private static final long TICK_MILLIS = 1L;
+
+    private OrderStateMachine orderStateMachine;
+    private OrderRepository orderRepository;
+    private ExamBookRepository examBookRepository;
+    private RedisUtil redisUtil;
+    private SeatHoldReaper seatHoldReaper;
+
+    @BeforeEach
+    void setUp() {
+        orderStateMachine = mock(OrderStateMachine.class);
+        orderRepository = mock(OrderRepository.class);
+        examBookRepository = mock(ExamBookRepository.class);
+        redisUtil = mock(RedisUtil.class);
+
+        TransitionRetryTemplate transitionRetryTemplate = mock(TransitionRetryTemplate.class);
+        when(transitionRetryTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        seatHoldReaper = new SeatHoldReaper(orderStateMachine, transitionRetryTemplate, orderRepository, examBookRepository,
+                redisUtil, 600, TICK_MILLIS, 64, 2);
+    }
+
+    @Test
+    void testTick_ExpiresOverdueHoldAndDeletesRows() throws InterruptedException {
+        when(orderStateMachine.apply(eq(OrderTransition.EXPIRE_HOLD), anyCollection())).thenReturn(1);
+        seatHoldReaper.register(1L, System.currentTimeMillis() - 1000);
+
+        tickLater();
+
+        verify(orderStateMachine).apply(OrderTransition.EXPIRE_HOLD, List.of(1L));
+        verify(examBookRepository).deleteByOrderIdInAndOrderStatus(List.of(1L), OrderStatus.EXPIRED);
+        verify(orderRepository).deleteByIdInAndStatus(List.of(1L), OrderStatus.EXPIRED);
+        verify(redisUtil).zRemove(HOLDS_KEY, "1");
+    }
+
+    @Test
+    void testTick_SkipsUnregisteredHold() throws InterruptedException {
+        seatHoldReaper.register(1L, System.currentTimeMillis() - 1000);
+        seatHoldReaper.unregister(1L); // 결제 확정
+
+        tickLater();
+
+        verify(orderStateMachine, never()).apply(any(), anyCollection());
+    }
+
+    @Test
+    void testTick_KeepsRowsWhenNothingExpired() throws InterruptedException {
+        // 만료 직전에 결제 확정되어 전이 대상이 없는 경우
+        when(orderStateMachine.apply(eq(OrderTransition.EXPIRE_HOLD), anyCollection())).thenReturn(0);
+        seatHoldReaper.register(1L, System.currentTimeMillis() - 1000);
+
+        tickLater();
+
+        verify(orderRepository, never()).deleteByIdInAndStatus(anyCollection(), any());
+        verify(redisUtil).zRemove(HOLDS_KEY, "1");
+    }
+
+    @Test
+    void testTick_RetriesFailedBatchOnNextTick() throws InterruptedException {
+        when(orderStateMachine.apply(eq(OrderTransition.EXPIRE_HOLD), anyCollection()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+        seatHoldReaper.register(1L, System.currentTimeMillis() - 1000);
+
+        tickLater();
+        verify(redisUtil, never()).zRemove(HOLDS_KEY, "1"); // 실패한 묶음은 기록을 남겨 둠
+
+        tickLater();
+        verify(orderStateMachine, times(2)).apply(OrderTransition.EXPIRE_HOLD, List.of(1L));
+        verify(redisUtil).zRemove(HOLDS_KEY, "1");
+    }
+
+    @Test
+    void testSweep_MergesRedisAndDatabaseOverdueHoldsInBatches() {
+        Set<ZSetOperations.TypedTuple<String>> recorded = new LinkedHashSet<>();
+        recorded.add(new DefaultTypedTuple<>("1", 0d));
+        recorded.add(new DefaultTypedTuple<>("2", 0d));
+        when(redisUtil.zRangeByScoreWithScores(eq(HOLDS_KEY), anyDouble(), anyDouble(), anyLong())).thenReturn(recorded);
+        // 2는 양쪽에 모두 있고, 3은 Redis 기록이 빠진 점유
+        when(orderRepository.findOverdueHoldIds(eq(OrderStatus.PENDING_PAYMENT), any(), any())).thenReturn(List.of(2L, 3L));
+
+        seatHoldReaper.sweep();
+
+        verify(orderStateMachine).apply(OrderTransition.EXPIRE_HOLD, List.of(1L, 2L));
+        verify(orderStateMachine).apply(OrderTransition.EXPIRE_HOLD, List.of(3L));
+    }
+
+    @Test
+    void testSweep_UsesDatabaseWhenRedisFails() {
+        when(redisUtil.zRangeByScoreWithScores(eq(HOLDS_KEY), anyDouble(), anyDouble(), anyLong()))
+                .thenThrow(new QueryTimeoutException("redis down"));
+        when(orderRepository.findOverdueHoldIds(eq(OrderStatus.PENDING_PAYMENT), any(), any())).thenReturn(List.of(3L));
+
+        seatHoldReaper.sweep();
+
+        verify(orderStateMachine).apply(OrderTransition.EXPIRE_HOLD, List.of(3L));
+    }
+
+    // 등록한 마감 시각의 다음 tick이 지나도록 기다린 뒤 tick 실행
+    private void tickLater() throws InterruptedException {
+        Thread.sleep(TICK_MILLIS * 5);
+        seatHoldReaper.tick();
+    }
+}
@@ -0,0 +1,80 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.datasource.ReadWriteRoutingDataSource;
+import com.doosan.msa.exam.entity.ExamSession;
+import com.doosan.msa.exam.repository.ExamSessionRepository;
+import com.doosan.msa.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좌석 재고 적재가 복제본이 아닌 원본의 주문 수를 읽는지 확인
+ * - 원본/복제본 대신 H2 인메모리 DB 두 개를 쓰고, 복제본에는 최근 주문이 아직 반영되지 않은 상황을 만듦
+ * - 주문 수 조회(Mock)는 현재 라우팅된 DB의 orders 테이블을 세어 반환
+ */
+class SeatStockLoaderTest {
+
+    private static final long EXAM_SESSION_ID = 1L;
+    private static final int CAPACITY = 10;
+
+    private TransactionTemplate readOnly;
+    private SeatStockLoader seatStockLoader;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(h2("stock_primary", 3), h2("stock_replica", 1));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        ExamSession session = new ExamSession();
+        session.setId(EXAM_SESSION_ID);
+        session.setCapacity(CAPACITY);
+        ExamSessionRepository examSessionRepository = mock(ExamSessionRepository.class);
+        when(examSessionRepository.findById(EXAM_SESSION_ID)).thenReturn(Optional.of(session));
+
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        when(orderRepository.countByExamSessionIdAndStatusNotIn(eq(EXAM_SESSION_ID), anyCollection()))
+                .thenAnswer(invocation -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class));
+
+        seatStockLoader = new SeatStockLoader(examSessionRepository, orderRepository);
+    }
+
+    @Test
+    void testLoadRemaining_ReadsPrimaryInReadOnlyTransaction() {
+        // @Transactional(readOnly = true) 안에서 호출되어도 원본의 주문 수(3)로 계산해야 함
+        assertEquals(CAPACITY - 3, readOnly.execute(status -> seatStockLoader.loadRemaining(EXAM_SESSION_ID)),
+                "복제본의 주문 수(1)로 계산하면 좌석이 남는 것으로 보여 초과 판매된다.");
+    }
+
+    @Test
+    void testLoadRemaining_ReadsPrimaryOutsideTransaction() {
+        assertEquals(CAPACITY - 3, seatStockLoader.loadRemaining(EXAM_SESSION_ID));
+    }
+
+    private static DataSource h2(String name, int orders) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS orders (id BIGINT)");
+        jdbc.update("DELETE FROM orders");
+        for (int i = 0; i < orders; i++) {
+            jdbc.update("INSERT INTO orders VALUES (?)", i);
+        }
+        return dataSource;
+    }
+}
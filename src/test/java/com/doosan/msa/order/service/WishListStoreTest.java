@@ -0,0 +1,318 @@
+package com.doosan.msa.order.service;
+
+import com.doosan.msa.common.repository.JobFenceRepository;
+import com.doosan.msa.common.service.LeaseLock;
+import com.doosan.msa.common.util.RedisUtil;
+import com.doosan.msa.exam.service.ExamSessionCache;
+import com.doosan.msa.order.repository.WishListRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 위시리스트 write-behind 반영과 Redis 초기화 후 재적재 확인
+ * - Redis는 메모리에 저장하는 FakeRedisUtil로 대신하고, Lua 스크립트는 같은 동작을 Java로 흉내 냄
+ * - wishlists 테이블은 ID -> [ID, 시험 세션 ID, 사용자 ID] Map으로 대신하며, 시험 세션 99는 삭제된 세션(외래 키 위반)으로 취급
+ */
+class WishListStoreTest {
+
+    private static final long DELETED_SESSION_ID = 99L;
+
+    private final Map<Long, Object[]> table = new LinkedHashMap<>();
+    private FakeRedisUtil redis;
+    private LeaseLock leaseLock;
+    private WishListRepository wishListRepository;
+    private WishListStore wishListStore;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FakeRedisUtil();
+
+        // 실제 리스를 얻기 위해 잠금 스크립트가 항상 토큰 1을 반환하는 LeaseLock을 사용
+        RedisUtil lockRedis = mock(RedisUtil.class);
+        when(lockRedis.executeScript(any(), anyList(), anyString(), anyString())).thenReturn(1L);
+        JobFenceRepository jobFenceRepository = mock(JobFenceRepository.class);
+        when(jobFenceRepository.findById(anyString())).thenReturn(Optional.empty());
+        LeaseLock.Lease lease = new LeaseLock(lockRedis, jobFenceRepository).tryAcquire("wishlist:flush", 60);
+
+        leaseLock = mock(LeaseLock.class);
+        when(leaseLock.tryAcquire(anyString(), anyLong())).thenReturn(lease);
+        when(leaseLock.renew(lease)).thenReturn(true);
+
+        wishListRepository = mock(WishListRepository.class);
+        when(wishListRepository.findExistingIds(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream().filter(table::containsKey).collect(Collectors.toList()));
+        doAnswer(invocation -> {
+            invocation.<Iterable<Long>>getArgument(0).forEach(table::remove);
+            return null;
+        }).when(wishListRepository).deleteAllByIdInBatch(anyIterable());
+        when(wishListRepository.streamAllRows()).thenAnswer(invocation -> new ArrayList<>(table.values()).stream());
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> (long) row[1] == DELETED_SESSION_ID)) {
+                throw new DataIntegrityViolationException("fk_wishlists_exam_session");
+            }
+            rows.forEach(row -> table.put((long) row[0], row));
+            return new int[rows.size()];
+        });
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        wishListStore = new WishListStore(redis, leaseLock, wishListRepository, mock(ExamSessionCache.class),
+                jdbcTemplate, transactionManager, 500, 60);
+    }
+
+    @Test
+    void testAdd_ReturnsExistingIdForSameSession() {
+        long id = wishListStore.add("u1", 1L);
+
+        assertEquals(id, wishListStore.add("u1", 1L), "같은 세션을 다시 등록하면 기존 위시리스트 ID를 반환해야 한다.");
+        assertEquals(1L, wishListStore.countFor(1L));
+        assertEquals(1, redis.list("wish:pending").size());
+    }
+
+    @Test
+    void testFlush_PersistsPendingChangesAndSkipsAddedThenRemoved() {
+        long kept = wishListStore.add("u1", 1L);
+        long removed = wishListStore.add("u1", 2L);
+        assertEquals("u1", wishListStore.remove(removed));
+
+        wishListStore.flush();
+
+        assertEquals(Set.of(kept), table.keySet(), "같은 묶음에서 추가 후 삭제된 항목은 테이블에 쓰지 않아야 한다.");
+        assertTrue(redis.list("wish:pending").isEmpty(), "반영한 변경은 대기 리스트에서 제거해야 한다.");
+        verify(wishListRepository, never()).deleteAllByIdInBatch(anyIterable());
+        assertEquals(0L, wishListStore.countFor(2L));
+    }
+
+    @Test
+    void testFlush_DeletesRowRemovedAfterEarlierFlush() {
+        long id = wishListStore.add("u1", 1L);
+        wishListStore.flush();
+
+        wishListStore.remove(id);
+        wishListStore.flush();
+
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void testFlush_MovesUnpersistableChangeToDeadLetter() {
+        long deleted = wishListStore.add("u1", DELETED_SESSION_ID);
+        long valid = wishListStore.add("u1", 1L);
+
+        wishListStore.flush();
+
+        assertEquals(Set.of(valid), table.keySet(), "반영할 수 있는 변경은 건별 재시도로 반영해야 한다.");
+        assertEquals(List.of("A:" + deleted + ":" + DELETED_SESSION_ID + ":u1"), redis.list("wish:dead-letter"));
+        assertTrue(redis.list("wish:pending").isEmpty(), "실패한 변경 때문에 대기 리스트가 막히면 안 된다.");
+    }
+
+    @Test
+    void testFlush_ReloadsFromTableAfterRedisReset() {
+        long first = wishListStore.add("u1", 1L);
+        long second = wishListStore.add("u2", 1L);
+        wishListStore.flush();
+
+        redis.reset(); // Redis 초기화 (FLUSHALL, 장애 후 빈 인스턴스로 교체 등)
+        wishListStore.flush();
+
+        assertEquals("1", redis.getData("wish:loaded:v2"));
+        assertEquals(2L, wishListStore.countFor(1L));
+        assertEquals(first, wishListStore.add("u1", 1L), "재적재 후에도 같은 세션 중복 등록을 막아야 한다.");
+        assertEquals(Set.of(String.format("%019d", second) + ":1"), redis.zset("wish:user-list:u2").keySet(),
+                "사용자별 목록 색인도 다시 적재해야 한다.");
+        assertTrue(redis.list("wish:pending").isEmpty(), "재적재한 항목을 다시 테이블에 쓰면 안 된다.");
+    }
+
+    @Test
+    void testFlush_ReloadRecordsDuplicateSessionRowForDeletion() {
+        table.put(5L, new Object[]{5L, 1L, "u1"});
+        table.put(6L, new Object[]{6L, 1L, "u1"});
+
+        wishListStore.flush(); // 적재 (6은 같은 세션의 중복 행이므로 삭제 대상으로 기록)
+        wishListStore.flush(); // 삭제 반영
+
+        assertEquals(Set.of(5L), table.keySet());
+        assertEquals(1L, wishListStore.countFor(1L));
+    }
+
+    @Test
+    void testFlush_SkipsWhenLockHeldElsewhere() {
+        wishListStore.add("u1", 1L);
+        when(leaseLock.tryAcquire(anyString(), anyLong())).thenReturn(null);
+
+        wishListStore.flush();
+
+        assertTrue(table.isEmpty());
+        assertEquals(1, redis.list("wish:pending").size());
+    }
+
+    /**
+     * 메모리 Redis - WishListStore가 쓰는 명령과 Lua 스크립트(ADD/REMOVE/LOAD)만 구현
+     */
+    private static final class FakeRedisUtil extends RedisUtil {
+
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<String, Map<String, String>> hashes = new HashMap<>();
+        private final Map<String, TreeMap<String, Double>> zsets = new HashMap<>();
+        private final Map<String, List<String>> lists = new HashMap<>();
+
+        FakeRedisUtil() {
+            super(null);
+        }
+
+        void reset() {
+            strings.clear();
+            hashes.clear();
+            zsets.clear();
+            lists.clear();
+        }
+
+        List<String> list(String key) {
+            return lists.computeIfAbsent(key, k -> new ArrayList<>());
+        }
+
+        TreeMap<String, Double> zset(String key) {
+            return zsets.computeIfAbsent(key, k -> new TreeMap<>());
+        }
+
+        private Map<String, String> hash(String key) {
+            return hashes.computeIfAbsent(key, k -> new HashMap<>());
+        }
+
+        @Override
+        public String getData(String key) {
+            return strings.get(key);
+        }
+
+        @Override
+        public void setData(String key, String value) {
+            strings.put(key, value);
+        }
+
+        @Override
+        public boolean hasKey(String key) {
+            return strings.containsKey(key);
+        }
+
+        @Override
+        public String hGet(String key, String field) {
+            return hash(key).get(field);
+        }
+
+        @Override
+        public Double zScore(String key, String member) {
+            return zset(key).get(member);
+        }
+
+        @Override
+        public void listPush(String key, List<String> values) {
+            list(key).addAll(values);
+        }
+
+        @Override
+        public List<String> listRange(String key, long start, long end) {
+            List<String> list = list(key);
+            return new ArrayList<>(list.subList((int) start, (int) Math.min(list.size(), end + 1)));
+        }
+
+        @Override
+        public void listTrim(String key, long start, long end) {
+            list(key).subList(0, (int) Math.min(start, list(key).size())).clear(); // end는 항상 -1
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+            String source = script.getScriptAsString();
+            if (source.contains("HSETNX")) {
+                return (T) load(keys, args);
+            }
+            if (source.contains("'ZINCRBY', KEYS[3], 1")) {
+                return (T) add(keys, args);
+            }
+            return (T) remove(keys, args);
+        }
+
+        private String add(List<String> keys, String[] args) {
+            String sessionId = args[0], id = args[1], userId = args[2];
+            String existing = hash(keys.get(0)).get(sessionId);
+            if (existing != null) {
+                return existing;
+            }
+            hash(keys.get(0)).put(sessionId, id);
+            zset(keys.get(4)).put(pad(id) + ":" + sessionId, 0d);
+            hash(keys.get(1)).put(id, sessionId + ":" + userId);
+            zset(keys.get(2)).merge(sessionId, 1d, Double::sum);
+            list(keys.get(3)).add("A:" + id + ":" + sessionId + ":" + userId);
+            return id;
+        }
+
+        private String remove(List<String> keys, String[] args) {
+            String id = args[0], userId = args[1];
+            String entry = hash(keys.get(0)).get(id);
+            if (entry == null || !entry.substring(entry.indexOf(':') + 1).equals(userId)) {
+                return null;
+            }
+            String sessionId = entry.substring(0, entry.indexOf(':'));
+            hash(keys.get(3)).remove(sessionId, id);
+            zset(keys.get(4)).remove(pad(id) + ":" + sessionId);
+            hash(keys.get(0)).remove(id);
+            if (zset(keys.get(1)).merge(sessionId, -1d, Double::sum) <= 0) {
+                zset(keys.get(1)).remove(sessionId);
+            }
+            list(keys.get(2)).add("D:" + id);
+            return userId;
+        }
+
+        private Long load(List<String> keys, String[] args) {
+            long loaded = 0;
+            for (int i = 0; i < args.length; i += 3) {
+                String id = args[i], sessionId = args[i + 1], userId = args[i + 2];
+                int n = i / 3 + 1;
+                Map<String, String> user = hash(keys.get(1 + 2 * n));
+                TreeMap<String, Double> userList = zset(keys.get(2 + 2 * n));
+                if (!hash(keys.get(0)).containsKey(id)) {
+                    if (user.putIfAbsent(sessionId, id) == null) {
+                        hash(keys.get(0)).put(id, sessionId + ":" + userId);
+                        userList.put(pad(id) + ":" + sessionId, 0d);
+                        zset(keys.get(1)).merge(sessionId, 1d, Double::sum);
+                        loaded++;
+                    } else {
+                        list(keys.get(2)).add("D:" + id);
+                    }
+                } else if (id.equals(user.get(sessionId))) {
+                    userList.put(pad(id) + ":" + sessionId, 0d);
+                }
+            }
+            return loaded;
+        }
+
+        private static String pad(String id) {
+            return String.format("%019d", Long.parseLong(id));
+        }
+    }
+}